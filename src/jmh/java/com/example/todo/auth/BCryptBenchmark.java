@@ -0,0 +1,41 @@
+package com.example.todo.auth;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost 별 해시 생성 / 검증 시간 (auth.bcrypt.strength 결정용)
+ * cost 가 1 오를 때마다 약 2배씩 느려진다.
+ * ./gradlew jmh -Pjmh.includes=BCryptBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BCryptBenchmark {
+
+    @Param({"8", "10", "12"})
+    public int cost;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(cost);
+        encoded = encoder.encode("password1234");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("password1234");
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return encoder.matches("password1234", encoded);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.todo.auth;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 제한 검사 비용 (요청 1건당 평균 시간)
+ * - hotKey : 모든 스레드가 같은 키 하나를 두고 경쟁 (CAS 충돌 최대)
+ * - spreadKeys : 키 10만 개에 고르게 분산 (실제 로그인 트래픽에 가까움)
+ * - overflowKeys : 최대 키 개수를 넘는 키로 계속 요청 (유휴 버킷 정리 경로)
+ * ./gradlew jmh -Pjmh.includes=TokenBucketLimiterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class TokenBucketLimiterBenchmark {
+
+    private static final int KEY_COUNT = 100_000;
+
+    private TokenBucketLimiter limiter;
+    private TokenBucketLimiter smallLimiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        limiter = new TokenBucketLimiter(60, 20, KEY_COUNT);
+        smallLimiter = new TokenBucketLimiter(60, 20, 1_000);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "user" + i + "@abc.com";
+        }
+    }
+
+    @Benchmark
+    public long hotKey() {
+        return limiter.tryAcquire("hot@abc.com");
+    }
+
+    @Benchmark
+    public long spreadKeys() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]);
+    }
+
+    @Benchmark
+    public long overflowKeys() {
+        return smallLimiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]);
+    }
+}
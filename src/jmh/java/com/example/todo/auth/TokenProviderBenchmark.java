@@ -0,0 +1,79 @@
+package com.example.todo.auth;
+
+import com.example.todo.userapi.entity.Role;
+import com.example.todo.userapi.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급 / 검증 비용
+ * - createToken : HS512 서명 포함 토큰 생성
+ * - validateCached : 검증된 토큰 캐시 적중 (SHA-256 다이제스트 + 맵 조회)
+ * - validateUncached : 캐시 미스 (서명 검증 + 클레임 파싱)
+ * ./gradlew jmh -Pjmh.includes=TokenProviderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenProviderBenchmark {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+    private static final int TOKEN_COUNT = 1024;
+
+    private TokenProvider cachedProvider;
+    private TokenProvider uncachedProvider;
+    private User user;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = newTokenProvider(10_000);
+        // 캐시에 1개만 남기고 매번 다른 토큰을 검증해서 항상 미스가 나도록 함
+        uncachedProvider = newTokenProvider(1);
+
+        user = user(0);
+        token = cachedProvider.createToken(user);
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = uncachedProvider.createToken(user(i));
+        }
+    }
+
+    private static TokenProvider newTokenProvider(int cacheMaxSize) {
+        TokenProvider tokenProvider = new TokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "cacheMaxSize", cacheMaxSize);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+        return tokenProvider;
+    }
+
+    private static User user(int i) {
+        return User.builder()
+                .id(String.format("0189c0de4f2a7c3b8a1d2e3f%08x", i))
+                .email("bench" + i + "@abc.com")
+                .userName("bench")
+                .role(Role.COMMON)
+                .build();
+    }
+
+    @Benchmark
+    public String createToken() {
+        return cachedProvider.createToken(user);
+    }
+
+    @Benchmark
+    public TokenUserInfo validateCached() {
+        return cachedProvider.validateAndGetTokenUserInfo(token);
+    }
+
+    @Benchmark
+    public TokenUserInfo validateUncached() {
+        next = (next + 1) & (TOKEN_COUNT - 1);
+        return uncachedProvider.validateAndGetTokenUserInfo(tokens[next]);
+    }
+}
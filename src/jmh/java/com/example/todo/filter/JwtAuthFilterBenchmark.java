@@ -0,0 +1,169 @@
+package com.example.todo.filter;
+
+import com.example.todo.auth.TokenProvider;
+import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.userapi.entity.Role;
+import com.example.todo.userapi.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthFilter 요청당 처리 비용 / 메모리 할당량 비교
+ * - legacy* : 개선 전 필터 (INFO 로그, 요청마다 키/파서/권한 리스트/상세정보 생성, 스택트레이스 출력)
+ * - current* : 현재 JwtAuthFilter
+ * ./gradlew jmh -Pjmh.includes=JwtAuthFilterBenchmark -Pjmh.profilers=gc
+ * (gc.alloc.rate.norm 값이 요청 1건당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthFilterBenchmark {
+
+    static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+    private JwtAuthFilter current;
+    private LegacyJwtAuthFilter legacy;
+    private MockHttpServletRequest validRequest;
+    private MockHttpServletRequest invalidRequest;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        TokenProvider tokenProvider = newTokenProvider();
+        current = new JwtAuthFilter(tokenProvider);
+        legacy = new LegacyJwtAuthFilter(SECRET);
+
+        String token = tokenProvider.createToken(User.builder()
+                .id("0189c0de4f2a7c3b8a1d2e3f4a5b6c7d")
+                .email("bench@abc.com")
+                .userName("bench")
+                .role(Role.COMMON)
+                .build());
+        validRequest = request("Bearer " + token);
+        invalidRequest = request("Bearer " + token.substring(0, token.length() - 4) + "AAAA");
+        response = new MockHttpServletResponse();
+
+        // 기준선의 printStackTrace 출력이 JMH 결과 출력을 덮지 않도록 버림 (문자열 생성 비용은 그대로 측정)
+        System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    static TokenProvider newTokenProvider() {
+        TokenProvider tokenProvider = new TokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "cacheMaxSize", 10_000);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+        return tokenProvider;
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/todos");
+        request.addHeader("Authorization", authorization);
+        return request;
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void currentValidToken() throws Exception {
+        current.doFilter(validRequest, response, chain);
+    }
+
+    @Benchmark
+    public void currentInvalidToken() throws Exception {
+        current.doFilter(invalidRequest, response, chain);
+    }
+
+    @Benchmark
+    public void legacyValidToken() throws Exception {
+        legacy.doFilter(validRequest, response, chain);
+    }
+
+    @Benchmark
+    public void legacyInvalidToken() throws Exception {
+        legacy.doFilter(invalidRequest, response, chain);
+    }
+
+    // 개선 전 JwtAuthFilter + TokenProvider.validateAndGetTokenUserInfo 동작을 그대로 옮긴 기준선
+    static class LegacyJwtAuthFilter extends OncePerRequestFilter {
+
+        private static final Logger log = LoggerFactory.getLogger(LegacyJwtAuthFilter.class);
+
+        private final String secretKey;
+
+        LegacyJwtAuthFilter(String secretKey) {
+            this.secretKey = secretKey;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            try {
+                String token = parseBearerToken(request);
+                log.info("Jwt Token Filter is running... - token: {}", token);
+                if (token != null) {
+                    Claims claims = Jwts.parserBuilder()
+                            .setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes()))
+                            .build()
+                            .parseClaimsJws(token)
+                            .getBody();
+                    log.info("claims: {}", claims);
+                    TokenUserInfo userInfo = TokenUserInfo.builder()
+                            .userId(claims.getSubject())
+                            .email(claims.get("email", String.class))
+                            .role(Role.valueOf(claims.get("role", String.class)))
+                            .build();
+
+                    List<SimpleGrantedAuthority> authorityList = new ArrayList<>();
+                    authorityList.add(new SimpleGrantedAuthority("ROLE_" + userInfo.getRole().toString()));
+                    AbstractAuthenticationToken auth
+                            = new UsernamePasswordAuthenticationToken(userInfo, null, authorityList);
+                    auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(auth);
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+                log.error("토큰이 위조 되었습니다.");
+            }
+            filterChain.doFilter(request, response);
+        }
+
+        private String parseBearerToken(HttpServletRequest request) {
+            String bearerToken = request.getHeader("Authorization");
+            if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer")) {
+                log.info("------------------" + bearerToken);
+                return bearerToken.substring(7);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.todo.id;
+
+import org.hibernate.id.UUIDHexGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 식별자 생성 비용 비교
+ * - legacyUuid : 기존 hibernate "uuid" 생성기
+ * - timeOrdered : TimeOrderedIds (UUIDv7 형식)
+ * ./gradlew jmh -Pjmh.includes=IdGeneratorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdGeneratorBenchmark {
+
+    private UUIDHexGenerator legacy;
+
+    @Setup
+    public void setUp() {
+        legacy = new UUIDHexGenerator();
+    }
+
+    @Benchmark
+    public Serializable legacyUuid() {
+        return legacy.generate(null, null);
+    }
+
+    @Benchmark
+    public String timeOrdered() {
+        return TimeOrderedIds.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String timeOrderedContended() {
+        return TimeOrderedIds.next();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.todo.id;
+
+import org.hibernate.id.UUIDHexGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 식별자 생성 방식별 MySQL INSERT 처리량과 인덱스 크기 비교
+ * tbl_todo 와 같은 구조(기본 키 + user_id 인덱스)의 임시 테이블에 100건씩 배치 INSERT 한다.
+ * 측정이 끝나면 테이블 데이터/인덱스 크기를 출력한다.
+ *
+ * ./gradlew jmh -Pjmh.includes=IdInsertBenchmark \
+ *     -Dbench.jdbc.url=jdbc:mysql://localhost:3306/bench -Dbench.jdbc.user=root -Dbench.jdbc.password=...
+ *
+ * idColumn=binary 는 BinaryHexIdType 매핑(binary(16))을 사용한 경우를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class IdInsertBenchmark {
+
+    private static final int BATCH = 100;
+    private static final int USERS = 1_000;
+
+    @Param({"uuid", "time-ordered"})
+    public String strategy;
+
+    @Param({"char", "binary"})
+    public String idColumn;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<String> ids;
+    private String[] userIds;
+    private String table;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url");
+        if (url == null) {
+            throw new IllegalStateException("-Dbench.jdbc.url 설정이 필요합니다.");
+        }
+        connection = DriverManager.getConnection(url,
+                System.getProperty("bench.jdbc.user", "root"),
+                System.getProperty("bench.jdbc.password", ""));
+
+        if (TimeOrderedIdGenerator.LEGACY_UUID.equals(strategy)) {
+            UUIDHexGenerator legacy = new UUIDHexGenerator();
+            ids = () -> (String) legacy.generate(null, null);
+        } else {
+            ids = TimeOrderedIds::next;
+        }
+        userIds = new String[USERS];
+        for (int i = 0; i < USERS; i++) userIds[i] = ids.get();
+
+        boolean binary = "binary".equals(idColumn);
+        String idType = binary ? "BINARY(16)" : "CHAR(32) CHARACTER SET ascii";
+        table = "bench_todo_" + strategy.replace('-', '_') + "_" + idColumn;
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + table);
+            st.execute("CREATE TABLE " + table + " ("
+                    + "todo_id " + idType + " NOT NULL PRIMARY KEY, "
+                    + "title VARCHAR(30) NOT NULL, "
+                    + "done BIT NOT NULL, "
+                    + "create_date DATETIME(6), "
+                    + "user_id " + idType + ", "
+                    + "INDEX idx_user (user_id)) ENGINE=InnoDB");
+        }
+        String value = binary ? "UNHEX(?)" : "?";
+        insert = connection.prepareStatement("INSERT INTO " + table
+                + " (todo_id, title, done, create_date, user_id) VALUES ("
+                + value + ", ?, 0, NOW(6), " + value + ")");
+        connection.setAutoCommit(false);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] insertBatch() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < BATCH; i++) {
+            insert.setString(1, ids.get());
+            insert.setString(2, "bench");
+            insert.setString(3, userIds[random.nextInt(USERS)]);
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement st = connection.createStatement()) {
+            st.execute("ANALYZE TABLE " + table);
+            try (ResultSet rs = st.executeQuery("SELECT TABLE_ROWS, DATA_LENGTH, INDEX_LENGTH "
+                    + "FROM information_schema.TABLES "
+                    + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + table + "'")) {
+                if (rs.next()) {
+                    System.out.printf("%n[%s] rows=%d, clustered(data)=%d bytes, secondary index=%d bytes%n",
+                            table, rs.getLong(1), rs.getLong(2), rs.getLong(3));
+                }
+            }
+        }
+        insert.close();
+        connection.close();
+    }
+}
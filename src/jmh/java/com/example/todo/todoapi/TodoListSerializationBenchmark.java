@@ -0,0 +1,73 @@
+package com.example.todo.todoapi;
+
+import com.example.todo.id.TimeOrderedIds;
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import com.example.todo.todoapi.entity.Todo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 할 일 목록 응답 생성 비용 (목록 크기별)
+ * - mapEntities : 엔터티 -> TodoDetailResponseDTO 변환
+ * - serialize : TodoListResponseDTO -> JSON 바이트
+ * - mapAndSerialize : 두 단계를 합친 전체 응답 생성
+ * ./gradlew jmh -Pjmh.includes=TodoListSerializationBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoListSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    // 스프링 부트 기본 설정과 같은 ObjectMapper 를 재사용 (생성 비용은 측정하지 않음)
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private List<Todo> todos;
+    private TodoListResponseDTO response;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        todos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            todos.add(Todo.builder()
+                    .todoId(TimeOrderedIds.next())
+                    .title("할 일 " + i)
+                    .done(i % 3 == 0)
+                    .createDate(now.plusSeconds(i))
+                    .build());
+        }
+        response = map(todos);
+    }
+
+    private static TodoListResponseDTO map(List<Todo> todos) {
+        List<TodoDetailResponseDTO> dtos = todos.stream()
+                .map(TodoDetailResponseDTO::new)
+                .collect(Collectors.toList());
+        return TodoListResponseDTO.builder().todos(dtos).build();
+    }
+
+    @Benchmark
+    public TodoListResponseDTO mapEntities() {
+        return map(todos);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(map(todos));
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.todo.todoapi;
+
+import com.example.todo.id.TimeOrderedIds;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connector/J 설정별 할 일 등록/조회 경로의 초당 SQL 실행 수 비교
+ * TodoRepository 호출처럼 매번 prepareStatement -> 실행 -> close 하고,
+ * 결과는 "초당 실행한 SQL 문 수"다. (등록 5문, 조회 1문, 일괄 등록 BATCH 문)
+ * - default : 드라이버 기본값 (클라이언트 측 prepare, 배치를 한 문씩 전송)
+ * - tuned : application-prod.properties 와 같은 서버 측 prepared statement 캐시 + 배치 재작성
+ *
+ * ./gradlew jmh -Pjmh.includes=TodoStatementBenchmark \
+ *     -Dbench.jdbc.url=jdbc:mysql://localhost:3306/bench -Dbench.jdbc.user=root -Dbench.jdbc.password=...
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class TodoStatementBenchmark {
+
+    // application-prod.properties 의 spring.datasource.hikari.data-source-properties.* 와 같은 값
+    static final String TUNED_PROPERTIES = "cachePrepStmts=true"
+            + "&prepStmtCacheSize=250"
+            + "&prepStmtCacheSqlLimit=2048"
+            + "&useServerPrepStmts=true"
+            + "&rewriteBatchedStatements=true"
+            + "&cacheResultSetMetadata=true"
+            + "&cacheServerConfiguration=true"
+            + "&elideSetAutoCommits=true"
+            + "&useLocalSessionState=true"
+            + "&maintainTimeStats=false";
+
+    private static final int BATCH = 20;
+    private static final int READERS = 1_000;
+    private static final int TODOS_PER_READER = 5;
+    private static final int WRITERS = 1_000;
+
+    // hibernate 가 만드는 것과 같은 모양의 SQL
+    private static final String LOCK_USER_SQL =
+            "select u.user_id, u.email, u.user_name, u.role, u.todo_version from bench_stmt_user u where u.user_id=? for update";
+    private static final String VERSION_SQL =
+            "update bench_stmt_user set email=?, user_name=?, role=?, todo_version=? where user_id=?";
+    private static final String COUNT_SQL =
+            "select count(t.todo_id) from bench_stmt_todo t where t.user_id=?";
+    private static final String INSERT_SQL =
+            "insert into bench_stmt_todo (create_date, done, title, user_id, todo_id) values (?, ?, ?, ?, ?)";
+    private static final String OUTBOX_SQL =
+            "insert into bench_stmt_outbox (create_date, payload, published_at, todo_id, type, user_id, event_id)"
+                    + " values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String LIST_SQL =
+            "select t.todo_id, t.title, t.done, t.create_date from bench_stmt_todo t"
+                    + " where t.user_id=? order by t.create_date, t.todo_id";
+
+    @Param({"default", "tuned"})
+    public String driver;
+
+    private Connection connection;
+    private String[] readers;
+    private String[] writers;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url");
+        if (url == null) {
+            throw new IllegalStateException("-Dbench.jdbc.url 설정이 필요합니다.");
+        }
+        if ("tuned".equals(driver)) {
+            url += (url.contains("?") ? "&" : "?") + TUNED_PROPERTIES;
+        }
+        connection = DriverManager.getConnection(url,
+                System.getProperty("bench.jdbc.user", "root"),
+                System.getProperty("bench.jdbc.password", ""));
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_stmt_todo");
+            st.execute("DROP TABLE IF EXISTS bench_stmt_outbox");
+            st.execute("DROP TABLE IF EXISTS bench_stmt_user");
+            st.execute("CREATE TABLE bench_stmt_user ("
+                    + "user_id CHAR(32) CHARACTER SET ascii NOT NULL PRIMARY KEY, "
+                    + "email VARCHAR(255) NOT NULL, user_name VARCHAR(255) NOT NULL, "
+                    + "role VARCHAR(10) NOT NULL, todo_version BIGINT NOT NULL DEFAULT 0) ENGINE=InnoDB");
+            st.execute("CREATE TABLE bench_stmt_todo ("
+                    + "todo_id CHAR(32) CHARACTER SET ascii NOT NULL PRIMARY KEY, "
+                    + "title VARCHAR(30) NOT NULL, "
+                    + "done BIT NOT NULL, "
+                    + "create_date DATETIME(6), "
+                    + "user_id CHAR(32) CHARACTER SET ascii, "
+                    + "INDEX idx_todo_user_created (user_id, create_date, todo_id)) ENGINE=InnoDB");
+            st.execute("CREATE TABLE bench_stmt_outbox ("
+                    + "event_id CHAR(32) CHARACTER SET ascii NOT NULL PRIMARY KEY, "
+                    + "user_id CHAR(32) NOT NULL, todo_id CHAR(32) NOT NULL, "
+                    + "type VARCHAR(10) NOT NULL, payload VARCHAR(1000) NOT NULL, "
+                    + "create_date DATETIME(6), published_at DATETIME(6), "
+                    + "INDEX idx_outbox_pending (published_at, event_id)) ENGINE=InnoDB");
+        }
+
+        // 조회용 회원과 등록용 회원을 나눠서 조회 목록 크기가 측정 중에 변하지 않게 한다.
+        readers = new String[READERS];
+        writers = new String[WRITERS];
+        for (int i = 0; i < READERS; i++) readers[i] = TimeOrderedIds.next();
+        for (int i = 0; i < WRITERS; i++) writers[i] = TimeOrderedIds.next();
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into bench_stmt_user (user_id, email, user_name, role) values (?, ?, ?, 'COMMON')")) {
+            for (String writer : writers) {
+                insert.setString(1, writer);
+                insert.setString(2, writer + "@bench.com");
+                insert.setString(3, "bench");
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            for (String reader : readers) {
+                for (int i = 0; i < TODOS_PER_READER; i++) {
+                    bindTodo(insert, reader);
+                    insert.addBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    // TodoService.create (일반회원) : 회원 행 잠금 + 개수 조회 + INSERT + 변경 기록 INSERT + 목록 버전 UPDATE, 커밋
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public void create() throws SQLException {
+        String userId = writers[ThreadLocalRandom.current().nextInt(WRITERS)];
+        long version;
+        try (PreparedStatement lock = connection.prepareStatement(LOCK_USER_SQL)) {
+            lock.setString(1, userId);
+            try (ResultSet rs = lock.executeQuery()) {
+                rs.next();
+                version = rs.getLong(5);
+            }
+        }
+        try (PreparedStatement count = connection.prepareStatement(COUNT_SQL)) {
+            count.setString(1, userId);
+            try (ResultSet rs = count.executeQuery()) {
+                rs.next();
+            }
+        }
+        String todoId;
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            todoId = bindTodo(insert, userId);
+            insert.executeUpdate();
+        }
+        try (PreparedStatement outbox = connection.prepareStatement(OUTBOX_SQL)) {
+            bindOutbox(outbox, userId, todoId);
+            outbox.executeUpdate();
+        }
+        try (PreparedStatement bump = connection.prepareStatement(VERSION_SQL)) {
+            bump.setString(1, userId + "@bench.com");
+            bump.setString(2, "bench");
+            bump.setString(3, "COMMON");
+            bump.setLong(4, version + 1);
+            bump.setString(5, userId);
+            bump.executeUpdate();
+        }
+        connection.commit();
+    }
+
+    // TodoService.retrieve : 회원의 목록 조회 (캐시 미스)
+    @Benchmark
+    public void retrieve(Blackhole bh) throws SQLException {
+        String userId = readers[ThreadLocalRandom.current().nextInt(READERS)];
+        try (PreparedStatement list = connection.prepareStatement(LIST_SQL)) {
+            list.setString(1, userId);
+            try (ResultSet rs = list.executeQuery()) {
+                while (rs.next()) {
+                    bh.consume(rs.getString(1));
+                    bh.consume(rs.getString(2));
+                    bh.consume(rs.getBoolean(3));
+                    bh.consume(rs.getTimestamp(4));
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    // TodoService.createBatch : JDBC 배치 INSERT (rewriteBatchedStatements 효과)
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] createBatch() throws SQLException {
+        String userId = writers[ThreadLocalRandom.current().nextInt(WRITERS)];
+        int[] counts;
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < BATCH; i++) {
+                bindTodo(insert, userId);
+                insert.addBatch();
+            }
+            counts = insert.executeBatch();
+        }
+        connection.commit();
+        return counts;
+    }
+
+    private static String bindTodo(PreparedStatement insert, String userId) throws SQLException {
+        String todoId = TimeOrderedIds.next();
+        insert.setTimestamp(1, new Timestamp(System.currentTimeMillis()));
+        insert.setBoolean(2, false);
+        insert.setString(3, "bench");
+        insert.setString(4, userId);
+        insert.setString(5, todoId);
+        return todoId;
+    }
+
+    private static void bindOutbox(PreparedStatement outbox, String userId, String todoId) throws SQLException {
+        outbox.setTimestamp(1, new Timestamp(System.currentTimeMillis()));
+        outbox.setString(2, "{\"id\":\"" + todoId + "\",\"title\":\"bench\",\"done\":false}");
+        outbox.setTimestamp(3, null);
+        outbox.setString(4, todoId);
+        outbox.setString(5, "CREATED");
+        outbox.setString(6, userId);
+        outbox.setString(7, TimeOrderedIds.next());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_stmt_todo");
+            st.execute("DROP TABLE IF EXISTS bench_stmt_outbox");
+            st.execute("DROP TABLE IF EXISTS bench_stmt_user");
+        }
+        connection.close();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.todo.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 엔드포인트별 응답 시간 기록 및 백분위 계산
+public class LatencyRecorder {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentSkipListMap<>();
+
+    public void record(String endpoint, long nanos, boolean success) {
+        endpoints.computeIfAbsent(endpoint, k -> new Endpoint()).add(nanos, success);
+    }
+
+    /**
+     * 결과 표 출력
+     * @param elapsedNanos - 측정 구간 전체 시간 (처리량 계산용)
+     */
+    public String report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-22s %8s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        long total = 0;
+        for (Map.Entry<String, Endpoint> e : endpoints.entrySet()) {
+            Endpoint.Snapshot s = e.getValue().snapshot();
+            total += s.count;
+            sb.append(String.format("%-22s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    e.getKey(), s.count, s.errors, s.count / seconds,
+                    s.percentile(0.50), s.percentile(0.95), s.percentile(0.99), s.percentile(1.0)));
+        }
+        sb.append(String.format("%-22s %8d %7s %10.1f (%.1fs)%n", "TOTAL", total, "", total / seconds, seconds));
+        return sb.toString();
+    }
+
+    private static final class Endpoint {
+        private long[] samples = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void add(long nanos, boolean success) {
+            if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+            samples[count++] = nanos;
+            if (!success) errors++;
+        }
+
+        synchronized Snapshot snapshot() {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return new Snapshot(sorted, errors);
+        }
+
+        private static final class Snapshot {
+            private final long[] sorted;
+            private final int count;
+            private final int errors;
+
+            Snapshot(long[] sorted, int errors) {
+                this.sorted = sorted;
+                this.count = sorted.length;
+                this.errors = errors;
+            }
+
+            // nearest-rank 백분위 (ms)
+            double percentile(double p) {
+                if (count == 0) return 0;
+                int rank = (int) Math.ceil(p * count);
+                return sorted[Math.max(0, rank - 1)] / 1e6;
+            }
+        }
+    }
+}
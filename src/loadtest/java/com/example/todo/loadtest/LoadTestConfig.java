@@ -0,0 +1,47 @@
+package com.example.todo.loadtest;
+
+import com.example.todo.aws.S3Service;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+// 부하 테스트용 빈 교체
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    // 업로드 내용을 읽어서 버리기만 하는 S3
+    @Bean
+    @Primary
+    public S3Service fakeS3Service() {
+        return new S3Service() {
+            @Override
+            public String uploadToS3Bucket(byte[] uploadFile, String fileName) {
+                return "fake://" + fileName;
+            }
+
+            @Override
+            public String uploadToS3Bucket(InputStream uploadFile, long contentLength,
+                                           String contentType, String fileName) {
+                try {
+                    uploadFile.transferTo(OutputStream.nullOutputStream());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return "fake://" + fileName;
+            }
+
+            @Override
+            public boolean isReachable(Duration timeout) {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.todo.loadtest;
+
+import com.example.todo.TodoApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전체 흐름 부하 테스트
+ * 내장 DB(loadtest 프로필)로 서버를 띄우고, 가상 사용자마다
+ * 회원가입 -> 로그인 -> (할 일 등록 -> 목록 조회 -> 완료 처리 -> 삭제) x 반복 을 동시에 실행한 뒤
+ * 엔드포인트별 처리량과 p50/p95/p99 응답 시간을 출력한다.
+ *
+ * ./gradlew loadTest -Dloadtest.users=100 -Dloadtest.iterations=50
+ * - loadtest.users : 동시 가상 사용자 수 (기본 50)
+ * - loadtest.iterations : 사용자당 반복 횟수 (기본 20)
+ * - loadtest.warmup-iterations : 측정 전 워밍업 반복 횟수 (기본 3, 결과에서 제외)
+ * - loadtest.virtual-threads : 서버를 가상 스레드 모드(todo.threads.virtual)로 실행 (기본 false)
+ *
+ * 요청당 스레드 / 가상 스레드 비교 (동시 접속 1000):
+ * ./gradlew loadTest -Dloadtest.users=1000 -Dloadtest.virtual-threads=false
+ * ./gradlew loadTest -Dloadtest.users=1000 -Dloadtest.virtual-threads=true
+ */
+public class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final AtomicInteger userSeq = new AtomicInteger();
+
+    public LoadTestRunner(int port) {
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 50);
+        int iterations = Integer.getInteger("loadtest.iterations", 20);
+        int warmup = Integer.getInteger("loadtest.warmup-iterations", 3);
+        boolean virtualThreads = Boolean.getBoolean("loadtest.virtual-threads");
+
+        try (ConfigurableApplicationContext ctx = new SpringApplicationBuilder(TodoApplication.class)
+                .profiles("loadtest")
+                .properties("todo.threads.virtual=" + virtualThreads)
+                .run(args)) {
+            int port = ctx.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            LoadTestRunner runner = new LoadTestRunner(port);
+
+            log.info("워밍업 - users: {}, iterations: {}", users, warmup);
+            runner.run(users, warmup);
+
+            log.info("측정 - users: {}, iterations: {}, server virtual threads: {}",
+                    users, iterations, virtualThreads);
+            LatencyRecorder recorder = new LatencyRecorder();
+            long start = System.nanoTime();
+            runner.run(users, iterations, recorder);
+            long elapsed = System.nanoTime() - start;
+
+            System.out.println();
+            System.out.println(recorder.report(elapsed));
+        }
+    }
+
+    void run(int users, int iterations) throws Exception {
+        run(users, iterations, new LatencyRecorder());
+    }
+
+    void run(int users, int iterations, LatencyRecorder recorder) throws Exception {
+        // 부하를 거는 쪽은 항상 가상 스레드 (동시 사용자 수만큼 플랫폼 스레드를 만들지 않도록)
+        ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<?>> futures = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                futures.add(pool.submit(() -> {
+                    new VirtualUser(recorder).run(iterations);
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // 가상 사용자 한 명의 시나리오
+    private final class VirtualUser {
+        private final LatencyRecorder recorder;
+        private String token;
+
+        VirtualUser(LatencyRecorder recorder) {
+            this.recorder = recorder;
+        }
+
+        void run(int iterations) throws Exception {
+            String email = "load" + userSeq.incrementAndGet() + "-" + UUID.randomUUID() + "@abc.com";
+            signUp(email);
+            signIn(email);
+            if (token == null) return;
+
+            for (int i = 0; i < iterations; i++) {
+                String todoId = create("할 일 " + i);
+                list();
+                if (todoId == null) continue;
+                toggle(todoId);
+                delete(todoId);
+            }
+        }
+
+        private void signUp(String email) throws Exception {
+            String boundary = "loadtest" + UUID.randomUUID();
+            String user = mapper.writeValueAsString(mapper.createObjectNode()
+                    .put("email", email)
+                    .put("password", "password1234")
+                    .put("userName", "부하"));
+            String body = "--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"user\"\r\n"
+                    + "Content-Type: application/json\r\n\r\n"
+                    + user + "\r\n"
+                    + "--" + boundary + "--\r\n";
+            send("POST /api/auth", HttpRequest.newBuilder(uri("/api/auth"))
+                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8)));
+        }
+
+        private void signIn(String email) throws Exception {
+            String body = mapper.writeValueAsString(mapper.createObjectNode()
+                    .put("email", email)
+                    .put("password", "password1234"));
+            JsonNode res = send("POST /api/auth/signin", json("/api/auth/signin")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+            token = res == null ? null : res.path("token").asText(null);
+        }
+
+        private String create(String title) throws Exception {
+            String body = mapper.writeValueAsString(mapper.createObjectNode().put("title", title));
+            JsonNode res = send("POST /api/todos", authed("/api/todos?mode=delta")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+            return res == null ? null : res.path("todo").path("id").asText(null);
+        }
+
+        private void list() throws Exception {
+            send("GET /api/todos", authed("/api/todos").GET());
+        }
+
+        private void toggle(String todoId) throws Exception {
+            String body = mapper.writeValueAsString(mapper.createObjectNode()
+                    .put("id", todoId)
+                    .put("done", true));
+            send("PATCH /api/todos", authed("/api/todos?mode=delta")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(body)));
+        }
+
+        private void delete(String todoId) throws Exception {
+            send("DELETE /api/todos/{id}", authed("/api/todos/" + todoId + "?mode=delta").DELETE());
+        }
+
+        private HttpRequest.Builder authed(String path) {
+            return json(path).header("Authorization", "Bearer " + token);
+        }
+
+        // 응답 시간을 기록하고, 2xx 이면 JSON 본문을 돌려준다.
+        private JsonNode send(String endpoint, HttpRequest.Builder request) throws Exception {
+            long start = System.nanoTime();
+            HttpResponse<byte[]> res;
+            try {
+                res = client.send(request.timeout(Duration.ofSeconds(30)).build(),
+                        HttpResponse.BodyHandlers.ofByteArray());
+            } catch (Exception e) {
+                recorder.record(endpoint, System.nanoTime() - start, false);
+                return null;
+            }
+            boolean ok = res.statusCode() / 100 == 2;
+            recorder.record(endpoint, System.nanoTime() - start, ok);
+            if (!ok || res.body().length == 0) return null;
+            return mapper.readTree(res.body());
+        }
+    }
+
+    private HttpRequest.Builder json(String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Content-Type", "application/json");
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+}
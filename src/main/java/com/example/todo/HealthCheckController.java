@@ -8,9 +8,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @Slf4j
 public class HealthCheckController {
+	// 단순 응답 확인용 (로드밸런서 헬스체크는 /livez, /readyz 사용)
 	@GetMapping("/")
 	public ResponseEntity<?> healthCheck(){
-		log.info("server is running");
+		log.debug("server is running");
 		return ResponseEntity.ok().body("It's ok");
 	}
 
@@ -1,12 +1,28 @@
 package com.example.todo;
 
+import com.example.todo.reactive.ReactiveTodoApplication;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC 는 reactive 프로필(ReactiveTodoApplication)에서만 사용
+@SpringBootApplication(exclude = {
+		R2dbcAutoConfiguration.class,
+		R2dbcDataAutoConfiguration.class,
+		R2dbcRepositoriesAutoConfiguration.class,
+		R2dbcTransactionManagerAutoConfiguration.class
+})
 public class TodoApplication {
 
 	public static void main(String[] args) {
+		// --spring.profiles.active=reactive 이면 WebFlux + R2DBC 서버로 실행
+		if (ReactiveTodoApplication.isRequested(args)) {
+			ReactiveTodoApplication.run(args);
+			return;
+		}
 		SpringApplication.run(TodoApplication.class, args);
 	}
 
@@ -0,0 +1,64 @@
+package com.example.todo.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 횟수 제한
+ * 클라이언트 IP 와 이메일 각각에 토큰 버킷을 두고, 둘 다 통과해야 로그인을 시도할 수 있다.
+ * DB 조회와 BCrypt 검증 전에 호출해서 무차별 대입 공격의 비용을 막는다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final boolean enabled;
+    private final HttpStatus rejectStatus;
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter emailLimiter;
+
+    public LoginRateLimiter(@Value("${auth.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${auth.rate-limit.status:429}") int rejectStatus,
+                            @Value("${auth.rate-limit.ip.per-minute:60}") int ipPerMinute,
+                            @Value("${auth.rate-limit.ip.burst:20}") int ipBurst,
+                            @Value("${auth.rate-limit.email.per-minute:10}") int emailPerMinute,
+                            @Value("${auth.rate-limit.email.burst:5}") int emailBurst,
+                            @Value("${auth.rate-limit.max-keys:100000}") int maxKeys) {
+        this.enabled = enabled;
+        this.rejectStatus = HttpStatus.valueOf(rejectStatus);
+        this.ipLimiter = new TokenBucketLimiter(ipPerMinute, ipBurst, maxKeys);
+        this.emailLimiter = new TokenBucketLimiter(emailPerMinute, emailBurst, maxKeys);
+    }
+
+    /**
+     * 로그인 시도 가능 여부 확인
+     * @param clientIp - 요청한 클라이언트 IP
+     * @param email - 로그인하려는 이메일 (없으면 IP 만 확인)
+     * @return - 허용되면 0, 거절되면 Retry-After 로 보낼 초
+     */
+    public long check(String clientIp, String email) {
+        if (!enabled) return 0;
+
+        long wait = ipLimiter.tryAcquire(clientIp);
+        if (wait == 0 && email != null) {
+            wait = emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+        }
+        // 초 단위 올림 (최소 1초)
+        return wait == 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999L));
+    }
+
+    public HttpStatus getRejectStatus() {
+        return rejectStatus;
+    }
+
+    public TokenBucketLimiter getIpLimiter() {
+        return ipLimiter;
+    }
+
+    public TokenBucketLimiter getEmailLimiter() {
+        return emailLimiter;
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.todo.auth;
+
+import com.example.todo.exception.HashingCapacityExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt 해시/검증 전용 실행기
+ * CPU를 많이 쓰는 해시 계산을 톰캣 요청 스레드가 아닌 고정 크기 작업 스레드에서 실행한다.
+ * 대기열이 가득 차면 기다리지 않고 HashingCapacityExceededException 으로 바로 실패시킨다. (503)
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+
+    // $2a$10$... 형식에서 cost 추출
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abyx]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder encoder;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder verifyCount = new LongAdder();
+    private final LongAdder verifyNanos = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder rehashCount = new LongAdder();
+
+    @Autowired
+    public PasswordHasher(PasswordEncoder encoder,
+                          @Value("${auth.bcrypt.strength:10}") int strength,
+                          @Value("${auth.hash.threads:0}") int threads,
+                          @Value("${auth.hash.queue-size:64}") int queueSize,
+                          @Value("${auth.hash.timeout-ms:5000}") long timeoutMillis,
+                          @Value("${auth.hash.retry-after-seconds:1}") long retryAfterSeconds) {
+        this(encoder, strength, newExecutor(
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queueSize),
+                timeoutMillis, retryAfterSeconds);
+    }
+
+    PasswordHasher(PasswordEncoder encoder, int strength, ThreadPoolExecutor executor,
+                   long timeoutMillis, long retryAfterSeconds) {
+        this.encoder = encoder;
+        this.strength = strength;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    private static ThreadPoolExecutor newExecutor(int threads, int queueSize) {
+        AtomicInteger seq = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     * @param rawPassword - 평문 비밀번호
+     * @return - 설정된 cost로 만든 BCrypt 해시
+     * @throws HashingCapacityExceededException - 대기열이 가득 찼거나 시간 안에 끝나지 않은 경우
+     */
+    public String encode(String rawPassword) {
+        return call(() -> timed(() -> encoder.encode(rawPassword), hashCount, hashNanos));
+    }
+
+    /**
+     * 비밀번호 검증
+     * @param rawPassword - 평문 비밀번호
+     * @param encodedPassword - 저장된 해시
+     * @throws HashingCapacityExceededException - 대기열이 가득 찼거나 시간 안에 끝나지 않은 경우
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return call(() -> timed(() -> encoder.matches(rawPassword, encodedPassword), verifyCount, verifyNanos));
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 설정과 다르면 백그라운드에서 다시 해시한다. (올리기/내리기 모두)
+     * 로그인에 성공한 직후에만 호출해야 한다. 대기열이 가득 차면 다음 로그인으로 미룬다.
+     * @param rawPassword - 검증에 성공한 평문 비밀번호
+     * @param encodedPassword - 저장된 해시
+     * @param store - 새 해시를 저장하는 함수
+     */
+    public void rehashIfNeeded(String rawPassword, String encodedPassword, Consumer<String> store) {
+        if (!needsRehash(encodedPassword)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    store.accept(timed(() -> encoder.encode(rawPassword), hashCount, hashNanos));
+                    rehashCount.increment();
+                } catch (Exception e) {
+                    log.warn("비밀번호 재해시 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+        }
+    }
+
+    // 저장된 해시의 cost가 설정값과 다른지 확인
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) return false;
+        Matcher m = BCRYPT_COST.matcher(encodedPassword);
+        return m.find() && Integer.parseInt(m.group(1)) != strength;
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new HashingCapacityExceededException("요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.increment();
+            throw new HashingCapacityExceededException("요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static <T> T timed(Callable<T> task, LongAdder count, LongAdder nanos) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return task.call();
+        } finally {
+            nanos.add(System.nanoTime() - start);
+            count.increment();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public long getHashCount() {
+        return hashCount.sum();
+    }
+
+    public long getHashNanos() {
+        return hashNanos.sum();
+    }
+
+    public long getVerifyCount() {
+        return verifyCount.sum();
+    }
+
+    public long getVerifyNanos() {
+        return verifyNanos.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getRehashCount() {
+        return rehashCount.sum();
+    }
+}
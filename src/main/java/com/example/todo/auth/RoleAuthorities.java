@@ -0,0 +1,31 @@
+package com.example.todo.auth;
+
+import com.example.todo.userapi.entity.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 등급별 인가 정보 (ROLE_COMMON 등)
+// 요청마다 새로 만들지 않도록 등급별로 한번만 만들어 두고 공유한다. (불변 리스트)
+public final class RoleAuthorities {
+
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, Collections.singletonList(
+                    new SimpleGrantedAuthority("ROLE_" + role)));
+        }
+    }
+
+    private RoleAuthorities() {
+    }
+
+    public static List<GrantedAuthority> of(Role role) {
+        return AUTHORITIES.get(role);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.todo.auth;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 (GCRA 방식)
+ * 버킷마다 "다음 요청이 허용되는 이론적 시각(TAT)" 하나만 AtomicLong 으로 저장하고 CAS로 갱신하므로 락이 없다.
+ * 키는 여러 개의 맵(stripe)에 나눠 담고, 맵마다 최대 개수를 넘으면
+ * 가득 찬(= 유휴) 버킷부터 지우고, 그래도 자리가 없으면 stripe 공용 버킷을 함께 쓴다.
+ */
+public class TokenBucketLimiter {
+
+    private final long intervalNanos;  // 토큰 1개가 채워지는 시간
+    private final long burstNanos;     // 버킷 용량 (burst * interval)
+    private final int maxKeysPerStripe;
+    private final Stripe[] stripes;
+    private final int mask;
+    private final LongSupplier clock;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param permitsPerMinute - 분당 채워지는 토큰 수
+     * @param burst - 버킷 용량 (연속으로 허용되는 요청 수)
+     * @param maxKeys - 보관할 최대 키 개수
+     */
+    public TokenBucketLimiter(int permitsPerMinute, int burst, int maxKeys) {
+        this(permitsPerMinute, burst, maxKeys, 64, systemClock());
+    }
+
+    TokenBucketLimiter(int permitsPerMinute, int burst, int maxKeys, int stripeCount, LongSupplier clock) {
+        if (permitsPerMinute <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerMinute, burst 는 1 이상이어야 합니다.");
+        }
+        int n = stripeCount <= 1 ? 1 : Integer.highestOneBit((stripeCount - 1) << 1); // 2의 거듭제곱으로 올림
+        this.intervalNanos = 60_000_000_000L / permitsPerMinute;
+        this.burstNanos = intervalNanos * burst;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / n);
+        this.stripes = new Stripe[n];
+        for (int i = 0; i < n; i++) stripes[i] = new Stripe();
+        this.mask = n - 1;
+        this.clock = clock;
+    }
+
+    // 0부터 시작하는 단조 증가 시계 (nanoTime 은 음수일 수 있음)
+    private static LongSupplier systemClock() {
+        long origin = System.nanoTime();
+        return () -> System.nanoTime() - origin;
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     * @param key - 제한 단위 (이메일, IP 등)
+     * @return - 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        AtomicLong bucket = bucketFor(key, now);
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + intervalNanos;
+            long wait = newTat - now - burstNanos;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    private AtomicLong bucketFor(String key, long now) {
+        int h = key.hashCode();
+        Stripe stripe = stripes[(h ^ (h >>> 16)) & mask];
+        AtomicLong bucket = stripe.buckets.get(key);
+        if (bucket != null) return bucket;
+
+        if (stripe.buckets.size() >= maxKeysPerStripe) {
+            // TAT 가 지난 버킷은 가득 찬 상태라 새 버킷과 같으므로 지워도 제한이 풀리지 않는다.
+            // (지우는 순간 다른 스레드가 쓰던 버킷이면 최대 한 번의 burst 가 더 허용될 수 있음)
+            stripe.buckets.values().removeIf(b -> b.get() <= now);
+            if (stripe.buckets.size() >= maxKeysPerStripe) return stripe.overflow;
+        }
+        return stripe.buckets.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) size += stripe.buckets.size();
+        return size;
+    }
+
+    public long getAllowedCount() {
+        return allowed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private static final class Stripe {
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        // 키 자리가 없을 때 함께 쓰는 버킷
+        private final AtomicLong overflow = new AtomicLong();
+    }
+}
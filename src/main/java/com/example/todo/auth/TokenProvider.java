@@ -11,11 +11,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 //역할 토큰을 발급하고, 서명위조를 검사하는 객체
 @Component
@@ -26,6 +34,38 @@ public class TokenProvider {
     @Value("${Jwt.secret}")
     private String SECRET_KEY;
 
+    // 검증이 끝난 토큰을 보관할 최대 개수
+    @Value("${Jwt.cache.max-size:10000}")
+    private int cacheMaxSize;
+
+    // 서명 키와 파서는 한번만 만들어서 재사용 (파서는 불변 객체라 스레드 안전)
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // 검증된 토큰 캐시 (key: 토큰의 SHA-256 해시, 토큰 만료시간까지만 유효)
+    private final ConcurrentHashMap<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    // 캐시 키 해시용 SHA-256 (MessageDigest 는 스레드 안전하지 않으므로 스레드마다 하나를 만들어 재사용)
+    // 요청마다 getInstance 로 보안 프로바이더를 조회하고 객체를 만드는 비용을 없앤다.
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    @PostConstruct
+    private void init() {
+        this.signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                //토큰 발급자의 발급 당시의 서명을 넣어줌
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     //토큰 생성 메서드
 
     /**
@@ -55,11 +95,10 @@ public class TokenProvider {
         Map<String,Object> claims = new HashMap<>();
         claims.put("email",userEntity.getEmail());
         claims.put("role",userEntity.getRole().toString());
-        log.info(userEntity.toString());
         return Jwts.builder()
                 //token header에 들어갈 서명
                 .signWith(
-                        Keys.hmacShaKeyFor(SECRET_KEY.getBytes()),
+                        signingKey,
                         SignatureAlgorithm.HS512
                 )
                 //token payload에 들어갈 클레임 설정.
@@ -79,20 +118,71 @@ public class TokenProvider {
      */
     public TokenUserInfo validateAndGetTokenUserInfo(String token){
 
-        Claims claims = Jwts.parserBuilder()
-                //토큰 발급자의 발급 당시의 서명을 넣어줌
-                .setSigningKey(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()))
-                //서명 위조 검사 : 위조된 경우에는 예외가 발생한다.
-                // 위조가 되지 않은 경우 페이로드를 리턴
-                .build()
+        // 이미 검증한 토큰이면 파싱 없이 바로 리턴
+        String cacheKey = digest(token);
+        VerifiedToken cached = verifiedTokens.get(cacheKey);
+        if(cached != null) {
+            if(cached.expiresAt > System.currentTimeMillis()) {
+                cacheHits.increment();
+                return cached.userInfo;
+            }
+            verifiedTokens.remove(cacheKey, cached);
+        }
+        cacheMisses.increment();
+
+        //서명 위조 검사 : 위조된 경우에는 예외가 발생한다.
+        // 위조가 되지 않은 경우 페이로드를 리턴
+        Claims claims = jwtParser
                 .parseClaimsJws(token)
                 .getBody();
-        log.info("claims: {}", claims);
-        return TokenUserInfo.builder()
+        TokenUserInfo userInfo = TokenUserInfo.builder()
                 .userId(claims.getSubject())
                 .email(claims.get("email", String.class))
                 .role(Role.valueOf(claims.get("role", String.class)))
                 .build();
+
+        cacheVerified(cacheKey, userInfo, claims.getExpiration());
+        return userInfo;
+    }
+
+    private void cacheVerified(String cacheKey, TokenUserInfo userInfo, Date expiration) {
+        if(expiration == null) return; //만료시간이 없는 토큰은 보관하지 않음
+
+        if(verifiedTokens.size() >= cacheMaxSize) {
+            // 만료된 토큰부터 정리하고, 그래도 가득 차 있으면 전부 비운다.
+            long now = System.currentTimeMillis();
+            verifiedTokens.values().removeIf(v -> v.expiresAt <= now);
+            if(verifiedTokens.size() >= cacheMaxSize) verifiedTokens.clear();
+        }
+        verifiedTokens.put(cacheKey, new VerifiedToken(userInfo, expiration.getTime()));
+    }
+
+    // 토큰 원문 대신 해시값을 캐시 키로 사용 (digest 는 계산 후 상태를 초기화하므로 그대로 재사용 가능)
+    private String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    public long getCacheMissCount() {
+        return cacheMisses.sum();
+    }
+
+    public int getCacheSize() {
+        return verifiedTokens.size();
+    }
+
+    private static final class VerifiedToken {
+        private final TokenUserInfo userInfo;
+        private final long expiresAt;
+
+        private VerifiedToken(TokenUserInfo userInfo, long expiresAt) {
+            this.userInfo = userInfo;
+            this.expiresAt = expiresAt;
+        }
     }
 
 }
@@ -3,15 +3,27 @@ package com.example.todo.aws;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectAclRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import javax.annotation.PostConstruct;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
 
 @Service
 @Slf4j
@@ -31,15 +43,25 @@ public class S3Service {
 	@Value("${aws.bucketName}")
 	private String bucketName;
 
+	// S3 호환 저장소(MinIO 등)를 사용할 때만 지정 (예: http://localhost:9000)
+	@Value("${aws.endpoint:}")
+	private String endpoint;
+
 	// S3에 연결해서 인증을 처리하는 로직
 	@PostConstruct //S3Service가 생성될 때 1번만 실행되는 아노테이션
 	private void initializeAmazon(){
 		//액세스키와 시크릿키를 이용해서 계정 인증 받기
 		AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
-		this.s3 = S3Client.builder()
+		S3ClientBuilder builder = S3Client.builder()
 				.region(Region.of(this.region))
-				.credentialsProvider(StaticCredentialsProvider.create(credentials))
-				.build();
+				.credentialsProvider(StaticCredentialsProvider.create(credentials));
+		if (StringUtils.hasText(endpoint)) {
+			builder.endpointOverride(URI.create(endpoint))
+					.serviceConfiguration(S3Configuration.builder()
+							.pathStyleAccessEnabled(true)
+							.build());
+		}
+		this.s3 = builder.build();
 	}
 	//
 
@@ -62,6 +84,82 @@ public class S3Service {
 		s3.putObject(request, RequestBody.fromBytes(uploadFile));
 
 		// 업로드 된 파일을 url을 반환
+		return getUrl(fileName);
+	}
+
+	/**
+	 * 파일 내용을 메모리에 올리지 않고 스트림 그대로 버킷에 업로드
+	 * @param uploadFile - 업로드할 파일의 입력 스트림
+	 * @param contentLength - 파일 크기 (바이트)
+	 * @param contentType - 파일의 MIME 타입 (모르면 null)
+	 * @param fileName - 업로드할 파일명
+	 * @return - 버킷에 업로드된 버킷경로 (url)
+	 */
+	public String uploadToS3Bucket(InputStream uploadFile, long contentLength,
+								   String contentType, String fileName) {
+
+		PutObjectRequest request
+				= PutObjectRequest.builder()
+				.bucket(bucketName) // 버킷이름
+				.key(fileName) // 파일명
+				.contentType(contentType)
+				.contentLength(contentLength)
+				.build();
+
+		// 크기를 알고 있으므로 SDK가 스트림을 그대로 전송 (전체 버퍼링 없음)
+		s3.putObject(request, RequestBody.fromInputStream(uploadFile, contentLength));
+
+		return getUrl(fileName);
+	}
+
+	/**
+	 * 버킷의 파일을 메모리에 올리지 않고 스트림으로 읽기 (If-None-Match, Range 는 S3 에 그대로 전달)
+	 * @param url - uploadToS3Bucket 이 돌려준 버킷경로
+	 * @param ifNoneMatch - 클라이언트가 보낸 If-None-Match (없으면 null)
+	 * @param range - 클라이언트가 보낸 Range (없으면 null)
+	 * @return - 본문 스트림과 메타데이터 (ETag, Content-Range ...), 다 읽은 뒤 닫아야 함
+	 * @throws S3Exception - 304(바뀌지 않음), 404(없음), 416(범위 오류) 는 statusCode 로 구분
+	 */
+	public ResponseInputStream<GetObjectResponse> getObject(String url, String ifNoneMatch, String range) {
+		GetObjectRequest request
+				= GetObjectRequest.builder()
+				.bucket(bucketName)
+				.key(keyOf(url))
+				.ifNoneMatch(ifNoneMatch)
+				.range(range)
+				.build();
+		return s3.getObject(request);
+	}
+
+	/**
+	 * 버킷에 접근 가능한지 확인 (헬스 체크용 HeadBucket 요청)
+	 * @param timeout - 요청 전체 제한 시간
+	 * @return - 접근 가능하면 true
+	 */
+	public boolean isReachable(Duration timeout) {
+		try {
+			s3.headBucket(HeadBucketRequest.builder()
+					.bucket(bucketName)
+					.overrideConfiguration(c -> c.apiCallTimeout(timeout))
+					.build());
+			return true;
+		} catch (SdkException e) {
+			log.warn("S3 버킷 접근 실패: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	// 버킷경로에서 키 추출 (가상 호스트 방식: /key, endpoint 지정 시 경로 방식: /bucket/key)
+	private String keyOf(String url) {
+		String path = URI.create(url).getPath();
+		if (path.startsWith("/")) path = path.substring(1);
+		if (StringUtils.hasText(endpoint) && path.startsWith(bucketName + "/")) {
+			path = path.substring(bucketName.length() + 1);
+		}
+		return path;
+	}
+
+	private String getUrl(String fileName) {
 		return s3.utilities()
 				.getUrl(b -> b.bucket(bucketName).key(fileName))
 				.toString();
@@ -0,0 +1,27 @@
+package com.example.todo.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+//JDBC 배치 INSERT/UPDATE 설정
+//spring.jpa.properties.hibernate.* 로 직접 지정한 값이 있으면 그 값을 우선 사용
+@Configuration
+public class JpaBatchConfig {
+
+    @Value("${todo.jpa.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            // 같은 테이블의 INSERT/UPDATE를 모아서 한 번의 배치로 실행
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.todo.config;
+
+import com.example.todo.id.TimeOrderedIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+//엔터티 식별자 생성 방식 설정 (time-ordered: 시간순 식별자, uuid: 기존 방식)
+@Configuration
+public class JpaIdGeneratorConfig {
+
+    @Value("${todo.id.strategy:" + TimeOrderedIdGenerator.TIME_ORDERED + "}")
+    private String idStrategy;
+
+    @Bean
+    public HibernatePropertiesCustomizer idGeneratorCustomizer() {
+        return properties -> properties.putIfAbsent(TimeOrderedIdGenerator.STRATEGY_SETTING, idStrategy);
+    }
+}
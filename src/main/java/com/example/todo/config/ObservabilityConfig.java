@@ -0,0 +1,35 @@
+package com.example.todo.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+//액추에이터, 메트릭 설정
+@Configuration
+@PropertySource("classpath:observability.properties")
+public class ObservabilityConfig {
+
+    // 할 일 목록 조회(GET /api/todos) 에만 백분위 히스토그램 적용
+    // (모든 URI에 켜면 시계열 수가 너무 많아짐)
+    @Bean
+    public MeterFilter todoListLatencyHistogram() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if ("http.server.requests".equals(id.getName())
+                        && "GET".equals(id.getTag("method"))
+                        && "/api/todos".equals(id.getTag("uri"))) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .percentiles(0.5, 0.95, 0.99)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
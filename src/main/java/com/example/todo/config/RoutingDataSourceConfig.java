@@ -0,0 +1,85 @@
+package com.example.todo.config;
+
+import com.example.todo.datasource.ReplicaLagGuard;
+import com.example.todo.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 replica 로 보내는 DataSource 설정 (todo.datasource.routing.enabled=true)
+ * - primary : spring.datasource.* (spring.datasource.hikari.*)
+ * - replica : todo.datasource.replica.jdbc-url, username, password, maximum-pool-size ...
+ * 꺼져 있으면 스프링 부트 기본 DataSource 하나만 사용한다.
+ */
+@Configuration
+@PropertySource("classpath:datasource-routing.properties")
+@ConditionalOnProperty(name = "todo.datasource.routing.enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("todo.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // JPA 와 트랜잭션 매니저가 사용하는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                      HikariDataSource replicaDataSource,
+                                                      ReplicaLagGuard lagGuard) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(lagGuard);
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Target.PRIMARY, primaryDataSource,
+                ReplicaRoutingDataSource.Target.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        return routing;
+    }
+
+    @Bean
+    public MeterBinder routingDataSourceMetrics(ReplicaRoutingDataSource routing, ReplicaLagGuard lagGuard) {
+        return registry -> {
+            FunctionCounter.builder("todo.datasource.routes", routing, ReplicaRoutingDataSource::getPrimaryRouteCount)
+                    .tag("target", "primary").register(registry);
+            FunctionCounter.builder("todo.datasource.routes", routing, ReplicaRoutingDataSource::getReplicaRouteCount)
+                    .tag("target", "replica").register(registry);
+            FunctionCounter.builder("todo.datasource.routes", routing, ReplicaRoutingDataSource::getPinnedRouteCount)
+                    .tag("target", "pinned").register(registry);
+            Gauge.builder("todo.datasource.pinned.keys", lagGuard, ReplicaLagGuard::size).register(registry);
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.todo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 활성화 (이메일 필터 재구축, 변경 알림 heartbeat, 변경 기록 전달 등)
+// 작업끼리 서로 밀리지 않도록 스케줄러 스레드 수는 scheduling.properties 에서 지정
+@Configuration
+@EnableScheduling
+@PropertySource("classpath:scheduling.properties")
+public class SchedulingConfig {
+}
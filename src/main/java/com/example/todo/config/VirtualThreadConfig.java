@@ -0,0 +1,42 @@
+package com.example.todo.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 실행 모드 (todo.threads.virtual=true 일 때만 적용)
+ * - 톰캣 요청 처리 : 고정 크기 작업 스레드 풀 대신 요청마다 가상 스레드
+ * - applicationTaskExecutor (@Async, 비동기 MVC 요청) : 작업마다 가상 스레드
+ * JDBC, S3 호출처럼 블로킹 대기가 많은 요청의 동시 처리 수가 스레드 수에 묶이지 않는다.
+ * 동시 DB 작업 수는 여전히 커넥션 풀 크기로 제한된다.
+ *
+ * BCrypt(PasswordHasher), 이미지 처리(ProfileImageUploader) 는 CPU 를 쓰는 작업이라
+ * 기존의 크기가 정해진 플랫폼 스레드 풀을 그대로 사용한다.
+ * JDBC 드라이버는 Connector/J 9.x 를 사용한다. (8.0.x 는 내부 synchronized 안에서 소켓을 읽어서
+ * 쿼리마다 캐리어 스레드가 고정됨, build.gradle 의 mysql.version)
+ * 고정(pinning) 확인: -Djdk.tracePinnedThreads=short
+ */
+@Configuration
+@ConditionalOnProperty(name = "todo.threads.virtual", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("톰캣 요청을 가상 스레드로 처리합니다.");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
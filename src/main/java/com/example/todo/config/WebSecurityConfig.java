@@ -2,6 +2,7 @@ package com.example.todo.config;
 
 import com.example.todo.filter.JwtAuthFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,6 +13,9 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.CorsFilter;
 
 //@Configuration //설정 클래스 용도로 사용하도록 스프링에 등록하는 어노테이션
@@ -23,13 +27,19 @@ public class WebSecurityConfig {
 
     private final JwtAuthFilter jwtAuthFilter;
 
+    // BCrypt cost (4~31, 1 올릴 때마다 계산 시간 2배)
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.bcrypt.strength:10}") int strength){
+        return new BCryptPasswordEncoder(strength);
     }
     //시큐리티 설정
     @Bean
-    public SecurityFilterChain FilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain FilterChain(HttpSecurity http,
+                                           @Value("${management.server.port:-1}") int managementPort) throws Exception {
+        // 관리 포트(management.server.port, 내부망 전용)로 들어온 요청인지
+        RequestMatcher managementPortRequest =
+                request -> managementPort > 0 && request.getLocalPort() == managementPort;
+
         //Security 모둘이 기본적으로 제공하는 보안 정책 해제
         http
                 .cors()
@@ -42,6 +52,11 @@ public class WebSecurityConfig {
                 .and()
                 //어떤 요청에서 인증을 안할 것인지 설정, 언제 할 것인지 설정
                 .authorizeRequests().antMatchers("/","/api/auth/**").permitAll()
+                // 로드밸런서 헬스체크 (liveness / readiness 만 공개)
+                .antMatchers("/livez", "/readyz", "/actuator/health/liveness", "/actuator/health/readiness").permitAll()
+                // 프로메테우스 스크랩은 관리 포트로 들어온 요청만
+                .requestMatchers(new AndRequestMatcher(
+                        new AntPathRequestMatcher("/actuator/prometheus"), managementPortRequest)).permitAll()
                 .antMatchers(HttpMethod.PUT,"/api/auth/promote").authenticated()
                 .antMatchers("/api/auth/load-profile").authenticated()
 //                .antMatchers(HttpMethod.POST,"api/todos").denyAll()
@@ -0,0 +1,110 @@
+package com.example.todo.datasource;
+
+import com.example.todo.auth.TokenUserInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 본인이 쓴 데이터는 본인이 바로 읽을 수 있게 보장 (read-your-writes)
+ * 쓰기가 커밋된 후 pin-ms 동안은 같은 회원(또는 같은 키)의 읽기 전용 작업도 primary 로 보낸다.
+ * 고정은 실제로 데이터를 바꾼 곳(TodoService, UserService)에서 커밋 후 markWrite 로 표시한다.
+ * 키는 withKey 로 지정한 값이 있으면 그 값, 없으면 로그인한 회원의 식별자다.
+ * 복제 지연이 pin-ms 보다 짧아야 하고, 서버마다 따로 기억하므로 다른 서버로 간 요청에는 적용되지 않는다.
+ */
+@Component
+public class ReplicaLagGuard {
+
+    private final ThreadLocal<String> keyOverride = new ThreadLocal<>();
+    // key -> primary 고정이 끝나는 시각
+    private final ConcurrentHashMap<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+    private final long pinNanos;
+    private final int maxKeys;
+    private final LongSupplier clock;
+
+    @Autowired
+    public ReplicaLagGuard(@Value("${todo.datasource.routing.read-your-writes-ms:2000}") long pinMillis,
+                           @Value("${todo.datasource.routing.max-pinned-keys:100000}") int maxKeys) {
+        this(pinMillis, maxKeys, System::nanoTime);
+    }
+
+    ReplicaLagGuard(long pinMillis, int maxKeys, LongSupplier clock) {
+        this.pinNanos = TimeUnit.MILLISECONDS.toNanos(pinMillis);
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    /**
+     * 로그인 전 작업(회원가입 직후 로그인 등)에서 쓸 키를 지정해서 실행
+     * @param key - 쓰기와 읽기를 묶을 키 (예: 이메일, null 이면 로그인한 회원)
+     * @param task - 실행할 작업
+     */
+    public <T> T withKey(String key, Supplier<T> task) {
+        String previous = keyOverride.get();
+        keyOverride.set(key);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) keyOverride.remove();
+            else keyOverride.set(previous);
+        }
+    }
+
+    // 현재 작업의 키 (없으면 null)
+    public String currentKey() {
+        String key = keyOverride.get();
+        if (key != null) return key;
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof TokenUserInfo) {
+            return ((TokenUserInfo) auth.getPrincipal()).getUserId();
+        }
+        return null;
+    }
+
+    // 쓰기가 커밋된 직후 호출 (읽기만 한 트랜잭션에서는 호출하지 않음)
+    public void markWrite(String key) {
+        if (key == null) return;
+        long now = clock.getAsLong();
+        if (pinnedUntil.size() >= maxKeys) {
+            pinnedUntil.values().removeIf(until -> until - now <= 0);
+        }
+        pinnedUntil.put(key, now + pinNanos);
+    }
+
+    // 트랜잭션 안에서 쓴 경우 커밋된 뒤에 표시 (트랜잭션 밖이면 바로)
+    public void markWriteAfterCommit(String key) {
+        if (key == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markWrite(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWrite(key);
+            }
+        });
+    }
+
+    // 최근에 쓰기가 있어서 primary 에서 읽어야 하는지
+    public boolean isPinned(String key) {
+        Long until = pinnedUntil.get(key);
+        if (until == null) return false;
+        if (until - clock.getAsLong() > 0) return true;
+        pinnedUntil.remove(key, until);
+        return false;
+    }
+
+    public int size() {
+        return pinnedUntil.size();
+    }
+}
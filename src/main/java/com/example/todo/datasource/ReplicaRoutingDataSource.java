@@ -0,0 +1,59 @@
+package com.example.todo.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 트랜잭션의 읽기 전용 여부로 primary / replica 를 고르는 DataSource
+ * - @Transactional(readOnly = true) 이면 replica, 그 밖에는 primary
+ * - 읽기 전용이라도 ReplicaLagGuard 가 고정한 키(최근에 쓴 회원)는 primary
+ * 고정은 실제로 쓰기를 한 서비스 코드가 ReplicaLagGuard.markWrite 로 표시한다.
+ * (커넥션을 고르는 시점에는 읽기만 하는 트랜잭션인지 알 수 없으므로 여기서 표시하지 않음)
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 쿼리 때 커넥션을 고르게 해야 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagGuard lagGuard;
+
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder replicaRoutes = new LongAdder();
+    private final LongAdder pinnedRoutes = new LongAdder();
+
+    public ReplicaRoutingDataSource(ReplicaLagGuard lagGuard) {
+        this.lagGuard = lagGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            return Target.PRIMARY;
+        }
+        String key = lagGuard.currentKey();
+        if (key != null && lagGuard.isPinned(key)) {
+            pinnedRoutes.increment();
+            return Target.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return Target.REPLICA;
+    }
+
+    public long getPrimaryRouteCount() {
+        return primaryRoutes.sum();
+    }
+
+    public long getReplicaRouteCount() {
+        return replicaRoutes.sum();
+    }
+
+    public long getPinnedRouteCount() {
+        return pinnedRoutes.sum();
+    }
+}
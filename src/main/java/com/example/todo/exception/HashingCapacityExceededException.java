@@ -0,0 +1,16 @@
+package com.example.todo.exception;
+
+import lombok.Getter;
+
+// 비밀번호 해시 작업 대기열이 가득 찼을 때 발생 (503 응답)
+@Getter
+public class HashingCapacityExceededException extends RuntimeException{
+
+    // 클라이언트가 다시 시도할 때까지 기다릴 시간 (초)
+    private final long retryAfterSeconds;
+
+    public HashingCapacityExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
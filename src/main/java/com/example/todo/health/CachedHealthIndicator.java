@@ -0,0 +1,54 @@
+package com.example.todo.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 검사 결과를 일정 시간 동안 재사용하는 헬스 인디케이터
+ * 로드밸런서가 자주 호출해도 실제 검사(DB, S3)는 ttl 마다 한 번만 실행된다.
+ * 다른 스레드가 검사 중이면 기다리지 않고 이전 결과를 돌려준다.
+ */
+public abstract class CachedHealthIndicator implements HealthIndicator {
+
+    private final long ttlNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Health cached;
+    private volatile long expiresAt;
+
+    protected CachedHealthIndicator(long ttlMillis) {
+        this.ttlNanos = ttlMillis * 1_000_000L;
+    }
+
+    // 실제 검사 (예외가 나면 DOWN)
+    protected abstract Health check() throws Exception;
+
+    @Override
+    public Health health() {
+        Health current = cached;
+        if (current != null && System.nanoTime() - expiresAt < 0) return current;
+
+        // 첫 검사는 결과가 나올 때까지 기다리고, 이후에는 갱신 중인 스레드만 검사
+        if (current == null) {
+            refreshLock.lock();
+        } else if (!refreshLock.tryLock()) {
+            return current;
+        }
+        try {
+            if (cached != null && System.nanoTime() - expiresAt < 0) return cached;
+            Health result;
+            try {
+                result = check();
+            } catch (Exception e) {
+                result = Health.down(e).build();
+            }
+            cached = result;
+            expiresAt = System.nanoTime() + ttlNanos;
+            return result;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
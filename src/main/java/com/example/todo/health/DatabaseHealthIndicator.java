@@ -0,0 +1,40 @@
+package com.example.todo.health;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * DB 연결 검사 (readiness)
+ * Connection.isValid 는 MySQL 드라이버에서 쿼리 없이 ping 만 보낸다.
+ * 빈 이름이 dbHealthIndicator 이므로 스프링 부트 기본 DB 검사 대신 사용된다.
+ */
+@Component("dbHealthIndicator")
+public class DatabaseHealthIndicator extends CachedHealthIndicator {
+
+    private final DataSource dataSource;
+    private final int timeoutSeconds;
+
+    public DatabaseHealthIndicator(DataSource dataSource,
+                                   @Value("${todo.health.cache-ms:5000}") long cacheMillis,
+                                   @Value("${todo.health.db.timeout-seconds:1}") int timeoutSeconds) {
+        super(cacheMillis);
+        this.dataSource = dataSource;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    protected Health check() throws Exception {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean valid = connection.isValid(timeoutSeconds);
+            Health.Builder builder = valid ? Health.up() : Health.down();
+            return builder
+                    .withDetail("validationMillis", (System.nanoTime() - start) / 1_000_000)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.todo.health;
+
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 톰캣 요청 처리 스레드 포화 검사 (readiness)
+ * 작업 스레드가 거의 다 사용 중이고 대기 중인 요청이 있으면 OUT_OF_SERVICE 로 응답해서
+ * 로드밸런서가 잠시 다른 서버로 보내도록 한다. 값만 읽으므로 캐시하지 않는다.
+ */
+@Component("requestQueueHealthIndicator")
+public class RequestQueueHealthIndicator
+        implements HealthIndicator, ApplicationListener<WebServerInitializedEvent> {
+
+    // 사용 중인 스레드 비율이 이 값 이상이면 포화
+    @Value("${todo.health.request-queue.busy-ratio:0.95}")
+    private double busyRatio;
+
+    private volatile ThreadPoolExecutor executor;
+
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        if (!(event.getWebServer() instanceof TomcatWebServer)) return;
+        Executor e = ((TomcatWebServer) event.getWebServer()).getTomcat()
+                .getConnector().getProtocolHandler().getExecutor();
+        if (e instanceof ThreadPoolExecutor) this.executor = (ThreadPoolExecutor) e;
+    }
+
+    @Override
+    public Health health() {
+        ThreadPoolExecutor current = executor;
+        if (current == null) return Health.unknown().build(); // 톰캣이 아니거나 가상 스레드 실행기
+
+        int active = current.getActiveCount();
+        int max = current.getMaximumPoolSize();
+        int queued = current.getQueue().size();
+        boolean saturated = active >= max * busyRatio && queued > 0;
+        return Health.status(saturated ? Status.OUT_OF_SERVICE : Status.UP)
+                .withDetail("active", active)
+                .withDetail("max", max)
+                .withDetail("queued", queued)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.todo.health;
+
+import com.example.todo.aws.S3Service;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// S3 버킷 접근 검사 (readiness, HeadBucket 요청)
+@Component("s3HealthIndicator")
+public class S3HealthIndicator extends CachedHealthIndicator {
+
+    private final S3Service s3Service;
+    private final Duration timeout;
+
+    public S3HealthIndicator(S3Service s3Service,
+                             @Value("${todo.health.s3.cache-ms:30000}") long cacheMillis,
+                             @Value("${todo.health.s3.timeout-ms:2000}") long timeoutMillis) {
+        super(cacheMillis);
+        this.s3Service = s3Service;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    @Override
+    protected Health check() {
+        return s3Service.isReachable(timeout) ? Health.up().build() : Health.down().build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.todo.id;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+/**
+ * 32자리 16진수 식별자를 binary(16) 컬럼에 저장하는 선택적 매핑
+ * 자바 코드에서는 계속 String 으로 다루고, DB에는 16바이트로 저장해서
+ * 기본 키와 외래 키 인덱스 크기를 절반 이하로 줄인다.
+ * 사용 시 식별자와 이를 참조하는 외래 키 컬럼을 모두 binary(16) 으로 바꿔야 한다.
+ * (src/main/resources/db/time-ordered-ids.sql 참고)
+ */
+public class BinaryHexIdType implements UserType {
+
+    @Override
+    public int[] sqlTypes() {
+        return new int[]{Types.BINARY};
+    }
+
+    @Override
+    public Class<?> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(Object x, Object y) throws HibernateException {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(Object x) throws HibernateException {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public Object nullSafeGet(ResultSet rs, String[] names,
+                              SharedSessionContractImplementor session, Object owner)
+            throws HibernateException, SQLException {
+        byte[] bytes = rs.getBytes(names[0]);
+        return bytes == null ? null : TimeOrderedIds.fromBytes(bytes);
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, Object value, int index,
+                            SharedSessionContractImplementor session)
+            throws HibernateException, SQLException {
+        if (value == null) {
+            st.setNull(index, Types.BINARY);
+        } else {
+            st.setBytes(index, TimeOrderedIds.toBytes((String) value));
+        }
+    }
+
+    @Override
+    public Object deepCopy(Object value) throws HibernateException {
+        return value; // String 은 불변
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(Object value) throws HibernateException {
+        return (Serializable) value;
+    }
+
+    @Override
+    public Object assemble(Serializable cached, Object owner) throws HibernateException {
+        return cached;
+    }
+
+    @Override
+    public Object replace(Object original, Object target, Object owner) throws HibernateException {
+        return original;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.todo.id;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.Configurable;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.UUIDHexGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+
+/**
+ * 엔터티 식별자 생성기
+ * hibernate 설정 todo.id.strategy 값으로 생성 방식을 고른다.
+ * - time-ordered (기본값) : 시간 순서대로 증가하는 UUIDv7 형식 (TimeOrderedIds)
+ * - uuid : 기존 hibernate "uuid" 생성기
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator, Configurable {
+
+    public static final String STRATEGY_SETTING = "todo.id.strategy";
+    public static final String TIME_ORDERED = "time-ordered";
+    public static final String LEGACY_UUID = "uuid";
+
+    private IdentifierGenerator legacy;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry)
+            throws MappingException {
+        Object strategy = serviceRegistry.getService(ConfigurationService.class)
+                .getSettings()
+                .getOrDefault(STRATEGY_SETTING, TIME_ORDERED);
+
+        if (LEGACY_UUID.equals(strategy)) {
+            UUIDHexGenerator uuid = new UUIDHexGenerator();
+            uuid.configure(type, params, serviceRegistry);
+            this.legacy = uuid;
+        } else if (!TIME_ORDERED.equals(strategy)) {
+            throw new MappingException("지원하지 않는 식별자 생성 방식입니다: " + strategy);
+        }
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object)
+            throws HibernateException {
+        if (legacy != null) return legacy.generate(session, object);
+        return TimeOrderedIds.next();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.todo.id;
+
+import java.security.SecureRandom;
+import java.util.Random;
+
+/**
+ * 시간 순서대로 정렬되는 식별자 생성기 (UUIDv7 배치 규칙)
+ * - 앞 48비트 : 생성 시각 (ms)
+ * - 이후 4비트 : 버전(7), 12비트 : rand_a, 2비트 : variant, 62비트 : rand_b
+ * 같은 ms 안에서는 난수 부분을 1씩 증가시켜 한 서버(JVM) 안에서 항상 증가하는 값을 만든다.
+ * 기존 "uuid" 생성기와 같은 32자리 소문자 16진수 문자열이므로 기존 컬럼에 그대로 저장할 수 있다.
+ */
+public final class TimeOrderedIds {
+
+    public static final int HEX_LENGTH = 32;
+    public static final int BYTE_LENGTH = 16;
+
+    private static final long RAND_A_MASK = 0xFFFL;
+    private static final long RAND_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final Random RANDOM = new SecureRandom();
+
+    // 마지막으로 발급한 값 (synchronized 블록 안에서만 접근)
+    private static long lastMillis = -1L;
+    private static long randA;
+    private static long randB;
+
+    private TimeOrderedIds() {
+    }
+
+    // 새 식별자를 32자리 16진수 문자열로 발급
+    public static String next() {
+        long msb;
+        long lsb;
+        // 블로킹 호출이 없는 짧은 구간이라 가상 스레드가 고정(pinning)되어도 문제 없음
+        synchronized (TimeOrderedIds.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                randA = RANDOM.nextInt() & RAND_A_MASK;
+                randB = RANDOM.nextLong() & RAND_B_MASK;
+            } else {
+                // 같은 ms 이거나 시계가 뒤로 간 경우: 이전 값보다 1 큰 값을 만든다.
+                randB = (randB + 1) & RAND_B_MASK;
+                if (randB == 0) {
+                    randA = (randA + 1) & RAND_A_MASK;
+                    if (randA == 0) lastMillis++;
+                }
+            }
+            msb = (lastMillis << 16) | (0x7L << 12) | randA;
+            lsb = (0x2L << 62) | randB;
+        }
+        char[] out = new char[HEX_LENGTH];
+        writeHex(msb, out, 0);
+        writeHex(lsb, out, 16);
+        return new String(out);
+    }
+
+    // 식별자에 기록된 생성 시각 (ms)
+    public static long timestampOf(String id) {
+        return Long.parseUnsignedLong(id.substring(0, 12), 16);
+    }
+
+    /**
+     * 32자리 16진수 식별자를 binary(16) 컬럼용 바이트 배열로 변환
+     * 기존 "uuid" 생성기로 만든 값도 16진수이므로 그대로 변환된다.
+     */
+    public static byte[] toBytes(String hexId) {
+        if (hexId == null || hexId.length() != HEX_LENGTH) {
+            throw new IllegalArgumentException("식별자는 32자리 16진수여야 합니다: " + hexId);
+        }
+        byte[] bytes = new byte[BYTE_LENGTH];
+        for (int i = 0; i < BYTE_LENGTH; i++) {
+            int hi = Character.digit(hexId.charAt(i * 2), 16);
+            int lo = Character.digit(hexId.charAt(i * 2 + 1), 16);
+            if (hi < 0 || lo < 0) {
+                throw new IllegalArgumentException("식별자는 32자리 16진수여야 합니다: " + hexId);
+            }
+            bytes[i] = (byte) ((hi << 4) | lo);
+        }
+        return bytes;
+    }
+
+    // binary(16) 컬럼 값을 32자리 16진수 식별자로 변환
+    public static String fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != BYTE_LENGTH) {
+            throw new IllegalArgumentException("식별자는 16바이트여야 합니다.");
+        }
+        char[] out = new char[HEX_LENGTH];
+        for (int i = 0; i < BYTE_LENGTH; i++) {
+            out[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            out[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(out);
+    }
+
+    private static void writeHex(long value, char[] out, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            out[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.todo.metrics;
+
+import com.example.todo.auth.LoginRateLimiter;
+import com.example.todo.auth.PasswordHasher;
+import com.example.todo.auth.TokenBucketLimiter;
+import com.example.todo.auth.TokenProvider;
+import com.example.todo.filter.JwtAuthFilter;
+import com.example.todo.outbox.OutboxRelay;
+import com.example.todo.todoapi.service.TodoChangeBus;
+import com.example.todo.todoapi.service.TodoListCache;
+import com.example.todo.userapi.service.EmailBloomFilter;
+import com.example.todo.userapi.service.ProfileImageUploader;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 각 컴포넌트가 LongAdder 로 세고 있던 값을 메트릭으로 등록
+ * (스크랩할 때만 값을 읽으므로 요청 처리 경로에는 비용이 없다)
+ */
+@Component
+@RequiredArgsConstructor
+public class AppMetricsBinder implements MeterBinder {
+
+    private final TodoListCache todoListCache;
+    private final TokenProvider tokenProvider;
+    private final JwtAuthFilter jwtAuthFilter;
+    private final PasswordHasher passwordHasher;
+    private final LoginRateLimiter loginRateLimiter;
+    private final EmailBloomFilter emailBloomFilter;
+    private final TodoChangeBus todoChangeBus;
+    private final OutboxRelay outboxRelay;
+    private final ProfileImageUploader profileImageUploader;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // 할 일 목록 캐시
+        FunctionCounter.builder("todo.list.cache.requests", todoListCache, TodoListCache::getHitCount)
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("todo.list.cache.requests", todoListCache, TodoListCache::getMissCount)
+                .tag("result", "miss").register(registry);
+        FunctionCounter.builder("todo.list.cache.evictions", todoListCache, TodoListCache::getEvictionCount)
+                .register(registry);
+        Gauge.builder("todo.list.cache.size", todoListCache, TodoListCache::size).register(registry);
+
+        // 검증된 토큰 캐시
+        FunctionCounter.builder("todo.jwt.cache.requests", tokenProvider, TokenProvider::getCacheHitCount)
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("todo.jwt.cache.requests", tokenProvider, TokenProvider::getCacheMissCount)
+                .tag("result", "miss").register(registry);
+        Gauge.builder("todo.jwt.cache.size", tokenProvider, TokenProvider::getCacheSize).register(registry);
+
+        // 토큰 인증 결과
+        FunctionCounter.builder("todo.jwt.auth", jwtAuthFilter, JwtAuthFilter::getValidTokenCount)
+                .tag("outcome", "valid").register(registry);
+        FunctionCounter.builder("todo.jwt.auth", jwtAuthFilter, JwtAuthFilter::getInvalidTokenCount)
+                .tag("outcome", "invalid").register(registry);
+        FunctionCounter.builder("todo.jwt.auth", jwtAuthFilter, JwtAuthFilter::getAbsentTokenCount)
+                .tag("outcome", "absent").register(registry);
+
+        // 비밀번호 해시
+        FunctionTimer.builder("todo.password.hash", passwordHasher,
+                        PasswordHasher::getHashCount, PasswordHasher::getHashNanos, TimeUnit.NANOSECONDS)
+                .tag("operation", "encode").register(registry);
+        FunctionTimer.builder("todo.password.hash", passwordHasher,
+                        PasswordHasher::getVerifyCount, PasswordHasher::getVerifyNanos, TimeUnit.NANOSECONDS)
+                .tag("operation", "verify").register(registry);
+        FunctionCounter.builder("todo.password.hash.rejected", passwordHasher, PasswordHasher::getRejectedCount)
+                .register(registry);
+        FunctionCounter.builder("todo.password.rehash", passwordHasher, PasswordHasher::getRehashCount)
+                .register(registry);
+        Gauge.builder("todo.password.hash.queue", passwordHasher, PasswordHasher::getQueueDepth)
+                .register(registry);
+
+        // 로그인 시도 제한
+        bindLimiter(registry, "ip", loginRateLimiter.getIpLimiter());
+        bindLimiter(registry, "email", loginRateLimiter.getEmailLimiter());
+
+        // 이메일 블룸 필터
+        FunctionCounter.builder("todo.email.filter.lookups", emailBloomFilter, EmailBloomFilter::getNegativeCount)
+                .tag("result", "negative").register(registry);
+        FunctionCounter.builder("todo.email.filter.lookups", emailBloomFilter, EmailBloomFilter::getPositiveCount)
+                .tag("result", "positive").register(registry);
+        FunctionCounter.builder("todo.email.filter.false.positives", emailBloomFilter,
+                        EmailBloomFilter::getFalsePositiveCount)
+                .register(registry);
+        Gauge.builder("todo.email.filter.false.positive.rate", emailBloomFilter,
+                        EmailBloomFilter::getObservedFalsePositiveRate)
+                .register(registry);
+        Gauge.builder("todo.email.filter.rebuild.duration", emailBloomFilter,
+                        EmailBloomFilter::getLastRebuildMillis)
+                .baseUnit("milliseconds").register(registry);
+        Gauge.builder("todo.email.filter.size", emailBloomFilter, EmailBloomFilter::getLastRebuildCount)
+                .register(registry);
+
+        // 할 일 변경 알림 (SSE)
+        Gauge.builder("todo.stream.subscribers", todoChangeBus, TodoChangeBus::getSubscriberCount)
+                .register(registry);
+        FunctionCounter.builder("todo.stream.events", todoChangeBus, TodoChangeBus::getPublishedCount)
+                .tag("result", "published").register(registry);
+        FunctionCounter.builder("todo.stream.events", todoChangeBus, TodoChangeBus::getDeliveredCount)
+                .tag("result", "delivered").register(registry);
+        FunctionCounter.builder("todo.stream.events", todoChangeBus, TodoChangeBus::getDroppedCount)
+                .tag("result", "dropped").register(registry);
+
+        // 변경 기록 전달 (outbox)
+        FunctionCounter.builder("todo.outbox.events", outboxRelay, OutboxRelay::getPublishedCount)
+                .tag("result", "published").register(registry);
+        FunctionCounter.builder("todo.outbox.events", outboxRelay, OutboxRelay::getFailureCount)
+                .tag("result", "failed").register(registry);
+        Gauge.builder("todo.outbox.pending", outboxRelay, OutboxRelay::getPendingCount)
+                .register(registry);
+        Gauge.builder("todo.outbox.lag", outboxRelay, OutboxRelay::getLagMillis)
+                .baseUnit("milliseconds").register(registry);
+
+        // 프로필 사진 업로드
+        FunctionCounter.builder("todo.profile.upload.rejected", profileImageUploader,
+                        ProfileImageUploader::getRejectedCount)
+                .register(registry);
+    }
+
+    private void bindLimiter(MeterRegistry registry, String key, TokenBucketLimiter limiter) {
+        FunctionCounter.builder("todo.login.rate.limit", limiter, TokenBucketLimiter::getAllowedCount)
+                .tag("key", key).tag("result", "allowed").register(registry);
+        FunctionCounter.builder("todo.login.rate.limit", limiter, TokenBucketLimiter::getRejectedCount)
+                .tag("key", key).tag("result", "rejected").register(registry);
+        Gauge.builder("todo.login.rate.limit.keys", limiter, TokenBucketLimiter::size)
+                .tag("key", key).register(registry);
+    }
+}
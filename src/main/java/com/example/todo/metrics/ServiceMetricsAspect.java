@@ -0,0 +1,66 @@
+package com.example.todo.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드 실행 시간 측정
+ * - todo.service : TodoService, UserService 의 public 메서드 (class, method, exception 태그)
+ * - todo.s3.upload : S3Service.uploadToS3Bucket
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry registry;
+
+    // 정상 종료 타이머는 메서드별로 한 번만 만든다.
+    private final ConcurrentHashMap<Method, Timer> serviceTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Method, Timer> uploadTimers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.example.todo.todoapi.service.TodoService.*(..))"
+            + " || execution(public * com.example.todo.userapi.service.UserService.*(..))")
+    public Object timeService(ProceedingJoinPoint pjp) throws Throwable {
+        return time(pjp, "todo.service", serviceTimers);
+    }
+
+    @Around("execution(public * com.example.todo.aws.S3Service.uploadToS3Bucket(..))")
+    public Object timeS3Upload(ProceedingJoinPoint pjp) throws Throwable {
+        return time(pjp, "todo.s3.upload", uploadTimers);
+    }
+
+    private Object time(ProceedingJoinPoint pjp, String name,
+                        ConcurrentHashMap<Method, Timer> timers) throws Throwable {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        long start = System.nanoTime();
+        try {
+            Object result = pjp.proceed();
+            timers.computeIfAbsent(method, m -> timer(name, m, "none"))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(name, method, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(String name, Method method, String exception) {
+        return Timer.builder(name)
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .register(registry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.todo.metrics;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * 요청 스레드에서 실행된 SQL 개수 집계 (p6spy 가 JdbcEventListener 빈을 자동으로 등록)
+ * 배치 실행은 DB 왕복 1번으로 센다.
+ * StatementMetricsFilter 가 요청 시작/끝에 start, finish 를 호출한다.
+ */
+@Component
+public class StatementCountListener extends SimpleJdbcEventListener {
+
+    // 요청 처리 중이 아니면 null (백그라운드 작업의 SQL 은 세지 않음)
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation,
+                                  long timeElapsedNanos, SQLException e) {
+        int[] count = COUNT.get();
+        if (count != null) count[0]++;
+    }
+
+    static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    static int finish() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.todo.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// 요청 하나에서 실행된 SQL 개수를 http.server.requests.statements 로 기록 (method, uri 태그)
+@Component
+@RequiredArgsConstructor
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        StatementCountListener.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int count = StatementCountListener.finish();
+            // 매핑된 URI 패턴만 태그로 사용 (경로 변수 값마다 시계열이 생기지 않도록)
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("http.server.requests.statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .register(registry)
+                    .record(count);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+}
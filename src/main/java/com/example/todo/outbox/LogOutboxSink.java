@@ -0,0 +1,16 @@
+package com.example.todo.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// 변경 기록을 전용 로거에 한 줄씩 남긴다. (logging.file / logback 설정으로 별도 파일에 기록)
+public class LogOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger("todo.outbox");
+
+    @Override
+    public void deliver(OutboxEvent event) {
+        log.info("{} {} {} {} {}", event.getEventId(), event.getUserId(),
+                event.getType(), event.getTodoId(), event.getPayload());
+    }
+}
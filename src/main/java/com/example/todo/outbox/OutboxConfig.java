@@ -0,0 +1,24 @@
+package com.example.todo.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 변경 기록 전달 대상 선택 (todo.outbox.sink=log|queue)
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "todo.outbox.sink", havingValue = "log", matchIfMissing = true)
+    public OutboxSink logOutboxSink() {
+        return new LogOutboxSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "todo.outbox.sink", havingValue = "queue")
+    public OutboxSink queueOutboxSink(@Value("${todo.outbox.queue.capacity:10000}") int capacity,
+                                      @Value("${todo.outbox.queue.offer-timeout-ms:100}") long offerTimeoutMs) {
+        return new QueueOutboxSink(capacity, offerTimeoutMs);
+    }
+}
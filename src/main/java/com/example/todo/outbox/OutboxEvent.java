@@ -0,0 +1,51 @@
+package com.example.todo.outbox;
+
+import com.example.todo.id.TimeOrderedIds;
+import com.example.todo.todoapi.dto.response.TodoChangeType;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 할 일 변경 기록 (할 일과 같은 트랜잭션에서 저장되고, OutboxRelay 가 외부로 전달)
+@Getter
+@ToString
+@EqualsAndHashCode(of = "eventId")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_todo_outbox", indexes = {
+        // 미전송 기록을 발생 순서대로 조회
+        @Index(name = "idx_outbox_pending", columnList = "published_at, event_id")
+})
+public class OutboxEvent {
+
+    // 시간순 식별자라 발생 순서대로 정렬된다.
+    @Id
+    @Column(length = TimeOrderedIds.HEX_LENGTH)
+    @GeneratedValue(generator = "time-ordered")
+    @GenericGenerator(name = "time-ordered", strategy = "com.example.todo.id.TimeOrderedIdGenerator")
+    private String eventId;
+
+    @Column(nullable = false, length = TimeOrderedIds.HEX_LENGTH)
+    private String userId;
+
+    @Column(nullable = false, length = TimeOrderedIds.HEX_LENGTH)
+    private String todoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TodoChangeType type;
+
+    @Column(nullable = false, length = 1000)
+    private String payload; //변경된 할 일 (JSON)
+
+    @CreationTimestamp
+    private LocalDateTime createDate; //변경 시간
+
+    private LocalDateTime publishedAt; //전달 완료 시간 (null 이면 미전송)
+
+}
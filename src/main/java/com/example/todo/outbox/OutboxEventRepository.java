@@ -0,0 +1,35 @@
+package com.example.todo.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository
+    extends JpaRepository<OutboxEvent, String> {
+
+    //settledBefore 이전에 만들어진 미전송 기록을 발생 순서대로 조회
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.createDate < :settledBefore"
+            + " ORDER BY e.eventId")
+    List<OutboxEvent> findPending(@Param("settledBefore") LocalDateTime settledBefore, Pageable pageable);
+
+    //미전송 기록 개수
+    @Query("SELECT count(e) FROM OutboxEvent e WHERE e.publishedAt IS NULL")
+    long countPending();
+
+    //전달이 끝난 기록 표시 (전달 위치 저장)
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.eventId IN :eventIds")
+    int markPublished(@Param("eventIds") Collection<String> eventIds,
+                      @Param("publishedAt") LocalDateTime publishedAt);
+
+    //보관 기간이 지난 전달 완료 기록 삭제
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
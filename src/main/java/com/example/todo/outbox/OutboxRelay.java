@@ -0,0 +1,159 @@
+package com.example.todo.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 변경 기록(tbl_todo_outbox) 전달기
+ * 미전송 기록을 발생 순서대로 batch-size 개씩 읽어서 OutboxSink 로 보내고,
+ * 보낸 기록에는 전달 시간을 남긴다. (전달 위치 저장, 서버가 재시작되어도 이어서 전달)
+ * - eventId 는 커밋 시점이 아니라 기록을 만들 때 정해지므로, 늦게 커밋된 트랜잭션의 작은 eventId 가
+ *   이미 보낸 큰 eventId 뒤에 나타날 수 있다. 그래서 만든 지 settle-ms 가 지난 기록만 보낸다.
+ *   (할 일 쓰기 트랜잭션이 settle-ms 안에 커밋되는 동안 회원별 순서가 유지됨, 서버 간 시계 차이도 이 안에 있어야 함)
+ * - 전달에 실패하면 그 뒤의 기록은 보내지 않고 다음 주기에 실패한 기록부터 다시 시도하므로
+ *   순서가 유지된다. (최소 한 번 전달이라 받는 쪽은 eventId 로 중복을 걸러야 함)
+ * - 여러 서버가 동시에 보내면 순서가 섞이므로 기본값은 꺼짐, 한 서버에서만 켠다. (todo.outbox.relay.enabled=true)
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    // 읽기/쓰기 분리 시에도 replica 의 옛 상태를 다시 보내지 않도록 조회도 primary 에서 (읽기 전용 아님)
+    private final TransactionTemplate tx;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration settle;
+
+    // 전달 완료 기록 보관 시간
+    @Value("${todo.outbox.retention-hours:24}")
+    private long retentionHours = 24;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile long pendingCount;
+    private volatile long lagMillis;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxSink sink,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${todo.outbox.relay.enabled:false}") boolean enabled,
+                       @Value("${todo.outbox.batch-size:100}") int batchSize,
+                       @Value("${todo.outbox.settle-ms:5000}") long settleMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.settle = Duration.ofMillis(Math.max(0, settleMillis));
+    }
+
+    @Scheduled(initialDelayString = "${todo.outbox.poll-ms:1000}",
+            fixedDelayString = "${todo.outbox.poll-ms:1000}")
+    public void scheduledRelay() {
+        if (!enabled) return;
+        try {
+            relay();
+        } catch (Exception e) {
+            log.error("변경 기록 전달 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 밀린 기록을 모두 전달 (가득 찬 batch 가 나오는 동안 반복)
+     * @return - 이번에 전달한 기록 수
+     */
+    public int relay() {
+        int total = 0;
+        int delivered;
+        do {
+            delivered = relayBatch();
+            total += delivered;
+        } while (delivered == batchSize);
+        updateLag();
+        return total;
+    }
+
+    // batch 하나를 순서대로 전달하고 전달된 만큼만 표시
+    int relayBatch() {
+        LocalDateTime settledBefore = LocalDateTime.now().minus(settle);
+        List<OutboxEvent> batch = tx.execute(
+                status -> outboxEventRepository.findPending(settledBefore, PageRequest.of(0, batchSize)));
+        if (batch == null || batch.isEmpty()) return 0;
+
+        List<String> delivered = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            try {
+                sink.deliver(event);
+            } catch (Exception e) {
+                failures.increment();
+                log.warn("변경 기록 전달 실패, 다음 주기에 다시 시도 - event: {}, {}",
+                        event.getEventId(), e.getMessage());
+                break;
+            }
+            delivered.add(event.getEventId());
+        }
+
+        if (!delivered.isEmpty()) {
+            tx.executeWithoutResult(status ->
+                    outboxEventRepository.markPublished(delivered, LocalDateTime.now()));
+            published.add(delivered.size());
+        }
+        // 실패로 중간에 멈췄으면 batch 보다 작으므로 이번 주기는 끝남
+        return delivered.size();
+    }
+
+    // 남은 기록 수와 가장 오래된 미전송 기록의 지연 시간
+    private void updateLag() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> oldest = tx.execute(
+                status -> outboxEventRepository.findPending(now, PageRequest.of(0, 1)));
+        Long pending = tx.execute(status -> outboxEventRepository.countPending());
+        pendingCount = pending == null ? 0 : pending;
+        lagMillis = (oldest == null || oldest.isEmpty() || oldest.get(0).getCreateDate() == null) ? 0
+                : Math.max(0, Duration.between(oldest.get(0).getCreateDate(), LocalDateTime.now()).toMillis());
+    }
+
+    // 보관 기간이 지난 전달 완료 기록 정리
+    @Scheduled(fixedDelayString = "${todo.outbox.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        if (!enabled) return;
+        try {
+            Integer deleted = tx.execute(status -> outboxEventRepository.deletePublishedBefore(
+                    LocalDateTime.now().minus(Duration.ofHours(retentionHours))));
+            log.debug("전달 완료된 변경 기록 정리 - {}건", deleted);
+        } catch (Exception e) {
+            log.error("변경 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    public long getPendingCount() {
+        return pendingCount;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.todo.outbox;
+
+/**
+ * 변경 기록을 받는 쪽 (todo.outbox.sink 로 선택)
+ * - log : 전용 로거(todo.outbox)로 한 줄씩 기록 (logback 에서 파일로 분리)
+ * - queue : 서버 안의 대기열에 넣고, 같은 서버의 소비자가 꺼내 감
+ * 예외가 발생하면 그 기록부터 다음 전달 때 다시 시도한다.
+ */
+public interface OutboxSink {
+
+    void deliver(OutboxEvent event) throws Exception;
+}
@@ -0,0 +1,55 @@
+package com.example.todo.outbox;
+
+import com.example.todo.todoapi.dto.response.TodoChangeType;
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 할 일 변경 기록 저장
+ * 반드시 할 일을 바꾸는 트랜잭션 안에서 호출해서, 변경과 기록이 함께 커밋되거나 함께 롤백되게 한다.
+ * (요청 경로에는 INSERT 1번만 추가되고 외부 전달은 OutboxRelay 가 따로 한다)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxWriter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public void record(String userId, TodoChangeType type, TodoDetailResponseDTO todo) {
+        outboxEventRepository.save(toEvent(userId, type, todo));
+    }
+
+    // 일괄 처리 기록 (JDBC 배치 INSERT)
+    public void recordAll(String userId, TodoChangeType type, Collection<TodoDetailResponseDTO> todos) {
+        if (todos.isEmpty()) return;
+        List<OutboxEvent> events = todos.stream()
+                .map(todo -> toEvent(userId, type, todo))
+                .collect(Collectors.toList());
+        outboxEventRepository.saveAll(events);
+    }
+
+    private OutboxEvent toEvent(String userId, TodoChangeType type, TodoDetailResponseDTO todo) {
+        try {
+            return OutboxEvent.builder()
+                    .userId(userId)
+                    .todoId(todo.getId())
+                    .type(type)
+                    .payload(MAPPER.writeValueAsString(todo))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("변경 기록을 만들 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.todo.outbox;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 변경 기록을 서버 안의 대기열에 넣는다.
+ * 대기열이 가득 차면 잠시 기다렸다가 예외를 던져서 다음 전달 때 다시 시도하게 한다. (기록은 DB에 남아 있음)
+ */
+public class QueueOutboxSink implements OutboxSink {
+
+    private final BlockingQueue<OutboxEvent> queue;
+    private final long offerTimeoutMs;
+
+    public QueueOutboxSink(int capacity, long offerTimeoutMs) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.offerTimeoutMs = offerTimeoutMs;
+    }
+
+    @Override
+    public void deliver(OutboxEvent event) throws InterruptedException {
+        if (!queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("변경 기록 대기열이 가득 찼습니다.");
+        }
+    }
+
+    // 소비자가 기록을 꺼내 가는 대기열
+    public BlockingQueue<OutboxEvent> queue() {
+        return queue;
+    }
+}
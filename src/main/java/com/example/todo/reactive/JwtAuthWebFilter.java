@@ -0,0 +1,99 @@
+package com.example.todo.reactive;
+
+import com.example.todo.auth.TokenProvider;
+import com.example.todo.auth.TokenUserInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JwtAuthFilter 의 리액티브 버전
+ * 토큰을 검증해서 회원 정보를 요청 속성(USER_INFO_ATTRIBUTE)에 담고,
+ * 스프링 시큐리티 없이 /api/todos 요청은 인증된 경우에만 통과시킨다. (서블릿 쪽과 같이 403)
+ * 토큰 검증은 캐시된 서명 검사라 이벤트 루프에서 바로 실행한다.
+ */
+@Component
+@Profile(ReactiveTodoApplication.PROFILE)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+@RequiredArgsConstructor
+public class JwtAuthWebFilter implements WebFilter {
+
+    public static final String USER_INFO_ATTRIBUTE = TokenUserInfo.class.getName();
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String PROTECTED_PATH = "/api/todos";
+
+    private final TokenProvider tokenProvider;
+
+    // 토큰 검사 결과 카운트 (정상 / 위조·만료 / 토큰 없음)
+    private final LongAdder validTokens = new LongAdder();
+    private final LongAdder invalidTokens = new LongAdder();
+    private final LongAdder absentTokens = new LongAdder();
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = parseBearerToken(exchange.getRequest());
+
+        if (token == null) {
+            absentTokens.increment();
+        } else {
+            try {
+                TokenUserInfo userInfo = tokenProvider.validateAndGetTokenUserInfo(token);
+                exchange.getAttributes().put(USER_INFO_ATTRIBUTE, userInfo);
+                validTokens.increment();
+            } catch (Exception e) {
+                invalidTokens.increment();
+                if (log.isDebugEnabled()) {
+                    log.debug("토큰이 위조 되었습니다. - {}", e.getMessage());
+                }
+            }
+        }
+
+        if (isProtected(exchange.getRequest())
+                && exchange.getAttribute(USER_INFO_ATTRIBUTE) == null) {
+            exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
+            return exchange.getResponse().setComplete();
+        }
+        return chain.filter(exchange);
+    }
+
+    private boolean isProtected(ServerHttpRequest request) {
+        String path = request.getPath().pathWithinApplication().value();
+        return path.equals(PROTECTED_PATH) || path.startsWith(PROTECTED_PATH + "/");
+    }
+
+    private String parseBearerToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (bearerToken != null
+                && bearerToken.length() > BEARER_PREFIX.length()
+                && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+
+    public long getValidTokenCount() {
+        return validTokens.sum();
+    }
+
+    public long getInvalidTokenCount() {
+        return invalidTokens.sum();
+    }
+
+    public long getAbsentTokenCount() {
+        return absentTokens.sum();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.todo.reactive;
+
+import com.example.todo.auth.TokenProvider;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.actuate.autoconfigure.security.reactive.ReactiveManagementWebSecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveSecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+import java.util.Arrays;
+
+/**
+ * 할 일 API 의 리액티브(WebFlux + R2DBC) 실행 구성
+ * reactive 프로필로 실행하면 서블릿 서버 대신 Netty 위에서 /api/todos 만 제공한다.
+ * (회원 API, JPA, 서블릿 필터는 올리지 않고 토큰 검증만 TokenProvider 를 그대로 사용)
+ *
+ * java -jar todo.jar --spring.profiles.active=reactive
+ */
+@Profile(ReactiveTodoApplication.PROFILE)
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        JpaRepositoriesAutoConfiguration.class,
+        SecurityAutoConfiguration.class,
+        UserDetailsServiceAutoConfiguration.class,
+        ReactiveSecurityAutoConfiguration.class,
+        ReactiveUserDetailsServiceAutoConfiguration.class,
+        ReactiveManagementWebSecurityAutoConfiguration.class
+})
+@ComponentScan(basePackageClasses = ReactiveTodoApplication.class)
+@EnableR2dbcRepositories(basePackageClasses = ReactiveTodoApplication.class)
+@Import(TokenProvider.class)
+public class ReactiveTodoApplication {
+
+    public static final String PROFILE = "reactive";
+
+    public static ConfigurableApplicationContext run(String[] args) {
+        return new SpringApplicationBuilder(ReactiveTodoApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles(PROFILE)
+                .run(args);
+    }
+
+    // 실행 인자, 시스템 프로퍼티, 환경 변수 중 하나로 reactive 프로필을 요청했는지 확인
+    public static boolean isRequested(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("--spring.profiles.active=")
+                    && containsProfile(arg.substring("--spring.profiles.active=".length()))) {
+                return true;
+            }
+        }
+        return containsProfile(System.getProperty("spring.profiles.active"))
+                || containsProfile(System.getenv("SPRING_PROFILES_ACTIVE"));
+    }
+
+    private static boolean containsProfile(String profiles) {
+        return profiles != null && Arrays.stream(profiles.split(","))
+                .map(String::trim)
+                .anyMatch(PROFILE::equals);
+    }
+
+    // 클래스패스에 Tomcat 도 있으므로 Netty 를 명시 (연결마다 스레드를 두지 않음)
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
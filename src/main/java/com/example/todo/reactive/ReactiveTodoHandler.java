@@ -0,0 +1,168 @@
+package com.example.todo.reactive;
+
+import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.todoapi.dto.request.TodoCreateRequestDTO;
+import com.example.todo.todoapi.dto.request.TodoModifyRequestDTO;
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import com.example.todo.todoapi.service.TodoService;
+import com.example.todo.userapi.entity.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * /api/todos 리액티브 핸들러 (TodoController 와 같은 요청/응답 형식)
+ * 등록, 수정, 삭제 후에는 전체 목록을 응답하고,
+ * 목록 조회는 Accept: application/x-ndjson 이면 할 일을 한 줄씩 바로 흘려보낸다.
+ * 쓰기는 TodoService 와 같이 회원 행을 잠근 트랜잭션 안에서 실행하고 목록 버전을 올린다.
+ */
+@Component
+@Profile(ReactiveTodoApplication.PROFILE)
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveTodoHandler {
+
+    private final ReactiveTodoRepository todoRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final Validator validator;
+
+    //할 일 목록 요청
+    public Mono<ServerResponse> retrieve(ServerRequest request) {
+        String userId = userInfo(request).getUserId();
+        Flux<TodoDetailResponseDTO> todos = todoRepository.findAllByUserId(userId)
+                .map(TodoRow::toDetail);
+
+        if (request.headers().accept().contains(MediaType.APPLICATION_NDJSON)) {
+            // 목록 전체를 모으지 않고 조회되는 대로 응답
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(todos, TodoDetailResponseDTO.class);
+        }
+        return listResponse(todos);
+    }
+
+    //할 일 등록 요청
+    public Mono<ServerResponse> create(ServerRequest request) {
+        TokenUserInfo userInfo = userInfo(request);
+        return request.bodyToMono(TodoCreateRequestDTO.class)
+                .flatMap(requestDTO -> validated(requestDTO, dto -> {
+                    String userId = userInfo.getUserId();
+                    Mono<Integer> insert = checkLimit(userInfo)
+                            .then(todoRepository.save(TodoRow.create(dto.getTitle(), userId)))
+                            .doOnNext(saved -> log.info("할 일 저장 완료! 제목: {}", saved.getTitle()))
+                            .thenReturn(1);
+                    return write(userId, insert).then(list(userId));
+                }))
+                .onErrorResume(IllegalStateException.class, e -> {
+                    log.warn(e.getMessage());
+                    return ServerResponse.status(401).bodyValue(e.getMessage());
+                })
+                .onErrorResume(RuntimeException.class, this::internalServerError);
+    }
+
+    //할 일 수정 요청 (PUT, PATCH)
+    public Mono<ServerResponse> update(ServerRequest request) {
+        String userId = userInfo(request).getUserId();
+        return request.bodyToMono(TodoModifyRequestDTO.class)
+                .flatMap(requestDTO -> validated(requestDTO, dto -> {
+                    log.info("/api/todos {} request!", request.methodName());
+                    // 수정할 대상이 없으면 목록은 바뀌지 않음
+                    return write(userId, todoRepository.updateDone(dto.getId(), userId, dto.isDone()))
+                            .then(list(userId));
+                }))
+                .onErrorResume(RuntimeException.class, this::internalServerError);
+    }
+
+    //할 일 삭제 요청
+    public Mono<ServerResponse> delete(ServerRequest request) {
+        String userId = userInfo(request).getUserId();
+        String todoId = request.pathVariable("id");
+        log.info("/api/todos/{} DELETE request!", todoId);
+
+        return write(userId, todoRepository.deleteByIdAndUserId(todoId, userId))
+                .flatMap(deleted -> {
+                    if (deleted == 0) {
+                        log.error("id가 존재하지 않아 삭제에 실패했습니다. - ID: {}", todoId);
+                        return Mono.<ServerResponse>error(
+                                new RuntimeException("id가 존재하지 않아 삭제에 실패했습니다."));
+                    }
+                    return list(userId);
+                })
+                .onErrorResume(RuntimeException.class, this::internalServerError);
+    }
+
+    /**
+     * 회원 행을 잠그고 변경을 실행한 뒤, 목록이 바뀌었으면 목록 버전을 올린다. (한 트랜잭션)
+     * 잠금은 커밋까지 유지되므로 같은 회원의 동시 등록이 개수 검사를 함께 통과하지 못한다.
+     * @param userId - 로그인한 회원 식별자
+     * @param change - 바뀐 행 수를 내는 변경 작업
+     * @return - 바뀐 행 수
+     */
+    private Mono<Integer> write(String userId, Mono<Integer> change) {
+        return todoRepository.lockUser(userId)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("회원 정보가 없습니다.")))
+                .then(change)
+                .flatMap(changed -> changed == 0 ? Mono.just(changed)
+                        : todoRepository.increaseTodoVersion(userId).thenReturn(changed))
+                .as(transactionalOperator::transactional);
+    }
+
+    // 일반회원이 일정을 5개를 초과하여 작성하면 예외를 발생 (write 안에서 회원 행을 잠근 뒤 호출)
+    private Mono<Void> checkLimit(TokenUserInfo userInfo) {
+        if (userInfo.getRole() != Role.COMMON) return Mono.empty();
+        return todoRepository.countByUserId(userInfo.getUserId())
+                .flatMap(count -> count >= TodoService.COMMON_TODO_LIMIT
+                        ? Mono.<Void>error(new IllegalStateException("일반회원은 더이상 일정을 작성할 수 없습니다."))
+                        : Mono.<Void>empty());
+    }
+
+    // 요청 DTO 검증 (실패하면 첫 번째 오류로 400)
+    private <T> Mono<ServerResponse> validated(T requestDTO,
+                                               Function<T, Mono<ServerResponse>> next) {
+        Set<ConstraintViolation<T>> violations = validator.validate(requestDTO);
+        if (violations.isEmpty()) return next.apply(requestDTO);
+
+        ConstraintViolation<T> violation = violations.iterator().next();
+        log.warn("DTO 검증 에러 발생: {} {}", violation.getPropertyPath(), violation.getMessage());
+        return ServerResponse.badRequest()
+                .bodyValue(TodoListResponseDTO.builder()
+                        .error(violation.getPropertyPath() + ": " + violation.getMessage())
+                        .build());
+    }
+
+    private Mono<ServerResponse> list(String userId) {
+        return listResponse(todoRepository.findAllByUserId(userId).map(TodoRow::toDetail));
+    }
+
+    private Mono<ServerResponse> listResponse(Flux<TodoDetailResponseDTO> todos) {
+        return todos.collectList()
+                .flatMap(list -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(TodoListResponseDTO.builder().todos(list).build()));
+    }
+
+    private Mono<ServerResponse> internalServerError(Throwable e) {
+        log.error(e.getMessage());
+        return ServerResponse.status(500)
+                .bodyValue(TodoListResponseDTO.builder().error(e.getMessage()).build());
+    }
+
+    // JwtAuthWebFilter 가 담아둔 회원 정보 (/api/todos 는 인증된 요청만 들어옴)
+    private TokenUserInfo userInfo(ServerRequest request) {
+        return (TokenUserInfo) request.attribute(JwtAuthWebFilter.USER_INFO_ATTRIBUTE)
+                .orElseThrow(() -> new IllegalStateException("인증 정보가 없습니다."));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.todo.reactive;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTodoRepository extends ReactiveCrudRepository<TodoRow, String> {
+
+    // 회원의 할 일 목록 (idx_todo_user_created 인덱스 순서)
+    @Query("SELECT todo_id, title, done, create_date, user_id FROM tbl_todo" +
+            " WHERE user_id = :userId ORDER BY create_date, todo_id")
+    Flux<TodoRow> findAllByUserId(@Param("userId") String userId);
+
+    @Query("SELECT COUNT(*) FROM tbl_todo WHERE user_id = :userId")
+    Mono<Long> countByUserId(@Param("userId") String userId);
+
+    // 회원 행에 쓰기 잠금 (트랜잭션 안에서만 사용, 같은 회원의 쓰기를 직렬화)
+    @Query("SELECT user_id FROM tbl_user WHERE user_id = :userId FOR UPDATE")
+    Mono<String> lockUser(@Param("userId") String userId);
+
+    // 회원의 할 일 목록 버전 증가 (JPA 쪽 ETag/목록 캐시와 같은 tbl_user.todo_version)
+    @Modifying
+    @Query("UPDATE tbl_user SET todo_version = todo_version + 1 WHERE user_id = :userId")
+    Mono<Integer> increaseTodoVersion(@Param("userId") String userId);
+
+    // 본인 할 일만 조회 없이 바로 수정 (수정된 행 수 리턴)
+    @Modifying
+    @Query("UPDATE tbl_todo SET done = :done WHERE todo_id = :todoId AND user_id = :userId")
+    Mono<Integer> updateDone(@Param("todoId") String todoId,
+                             @Param("userId") String userId,
+                             @Param("done") boolean done);
+
+    // 본인 할 일만 조회 없이 바로 삭제 (삭제된 행 수 리턴)
+    @Modifying
+    @Query("DELETE FROM tbl_todo WHERE todo_id = :todoId AND user_id = :userId")
+    Mono<Integer> deleteByIdAndUserId(@Param("todoId") String todoId,
+                                      @Param("userId") String userId);
+}
@@ -0,0 +1,25 @@
+package com.example.todo.reactive;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+// /api/todos 라우팅 (TodoController 와 같은 경로와 메서드)
+@Configuration
+@Profile(ReactiveTodoApplication.PROFILE)
+public class ReactiveTodoRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> todoRoutes(ReactiveTodoHandler handler) {
+        return RouterFunctions.route()
+                .GET("/api/todos", handler::retrieve)
+                .POST("/api/todos", handler::create)
+                .PUT("/api/todos", handler::update)
+                .PATCH("/api/todos", handler::update)
+                .DELETE("/api/todos/{id}", handler::delete)
+                .build();
+    }
+}
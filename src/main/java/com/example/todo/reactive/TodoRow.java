@@ -0,0 +1,56 @@
+package com.example.todo.reactive;
+
+import com.example.todo.id.TimeOrderedIds;
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+// R2DBC 용 tbl_todo 매핑 (JPA 엔터티 Todo 와 같은 테이블, 회원은 식별자로만 보관)
+@Getter @ToString
+@NoArgsConstructor @AllArgsConstructor
+@Table("tbl_todo")
+public class TodoRow implements Persistable<String> {
+
+    @Id
+    @Column("todo_id")
+    private String todoId;
+
+    private String title;
+
+    private boolean done;
+
+    @Column("create_date")
+    private LocalDateTime createDate;
+
+    @Column("user_id")
+    private String userId;
+
+    // 식별자를 직접 발급하므로 INSERT / UPDATE 여부를 따로 표시
+    @Transient
+    private boolean newRow;
+
+    // 새 할 일 (JPA 쪽과 같은 시간순 식별자 사용)
+    public static TodoRow create(String title, String userId) {
+        return new TodoRow(TimeOrderedIds.next(), title, false, LocalDateTime.now(), userId, true);
+    }
+
+    @Override
+    public String getId() {
+        return todoId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+
+    public TodoDetailResponseDTO toDetail() {
+        return new TodoDetailResponseDTO(todoId, title, done, createDate);
+    }
+}
@@ -1,17 +1,29 @@
 package com.example.todo.todoapi.api;
 
 import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.todoapi.dto.request.TodoBatchCreateRequestDTO;
+import com.example.todo.todoapi.dto.request.TodoBatchDeleteRequestDTO;
+import com.example.todo.todoapi.dto.request.TodoBatchModifyRequestDTO;
 import com.example.todo.todoapi.dto.request.TodoCreateRequestDTO;
 import com.example.todo.todoapi.dto.request.TodoModifyRequestDTO;
+import com.example.todo.todoapi.dto.response.TodoBatchResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoDeltaResponseDTO;
 import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import com.example.todo.todoapi.service.TodoChangeBus;
 import com.example.todo.todoapi.service.TodoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -22,14 +34,28 @@ import javax.servlet.http.HttpServletRequest;
 @CrossOrigin(origins = "http://localhost:3000")
 public class TodoController {
 
+    // 응답 방식 선택 헤더/파라미터 값이 delta면 변경된 할 일 하나만 응답 (기본값: 전체 목록)
+    public static final String RESPONSE_MODE_HEADER = "X-Response-Mode";
+    public static final String DELTA_MODE = "delta";
+
+    // 목록 응답은 캐시에 저장하되 매번 ETag로 재검증하도록 설정
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final TodoService todoService;
+    private final TodoChangeBus changeBus;
+
+    // 변경 알림 연결 최대 유지 시간 (끝나면 클라이언트가 다시 연결)
+    @Value("${todo.stream.timeout-ms:1800000}")
+    private long streamTimeoutMs;
 
     //할 일 등록 요청
     @PostMapping
     public ResponseEntity<?> createTodo(
             @AuthenticationPrincipal TokenUserInfo userInfo,
             @Validated @RequestBody TodoCreateRequestDTO requestDTO,
-            BindingResult result
+            BindingResult result,
+            @RequestHeader(value = RESPONSE_MODE_HEADER, required = false) String modeHeader,
+            @RequestParam(value = "mode", required = false) String mode
     ) {
         if(result.hasErrors()) {
             log.warn("DTO 검증 에러 발생: {}", result.getFieldError());
@@ -39,6 +65,10 @@ public class TodoController {
         }
 
         try {
+            if(isDeltaMode(modeHeader, mode)) {
+                TodoDeltaResponseDTO deltaDTO = todoService.createDelta(requestDTO, userInfo);
+                return ResponseEntity.ok().body(deltaDTO);
+            }
             TodoListResponseDTO responseDTO = todoService.create(requestDTO,userInfo);
             return ResponseEntity
                     .ok()
@@ -59,7 +89,9 @@ public class TodoController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteTodo(
             @AuthenticationPrincipal TokenUserInfo userInfo,
-            @PathVariable("id") String todoId
+            @PathVariable("id") String todoId,
+            @RequestHeader(value = RESPONSE_MODE_HEADER, required = false) String modeHeader,
+            @RequestParam(value = "mode", required = false) String mode
     ) {
         log.info("/api/todos/{} DELETE request!", todoId);
 
@@ -70,6 +102,10 @@ public class TodoController {
         }
 
         try {
+            if(isDeltaMode(modeHeader, mode)) {
+                TodoDeltaResponseDTO deltaDTO = todoService.deleteDelta(todoId, userInfo.getUserId());
+                return ResponseEntity.ok().body(deltaDTO);
+            }
             TodoListResponseDTO responseDTO = todoService.delete(todoId,userInfo.getUserId());
             return ResponseEntity.ok().body(responseDTO);
         } catch (Exception e) {
@@ -81,16 +117,105 @@ public class TodoController {
 
 
     //할 일 목록 요청
+    //GET: /api/todos?limit=20&cursor=xxx (limit, cursor가 없으면 전체 목록)
+    //If-None-Match가 현재 목록 버전과 같으면 목록 조회 없이 304 응답
     @GetMapping
     public ResponseEntity<?> retrieveTodoList(
             //토큰에 인증된 사용자 정보를 불러올수 있음
-            @AuthenticationPrincipal TokenUserInfo userInfo
+            @AuthenticationPrincipal TokenUserInfo userInfo,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
             ) {
-        log.info("/api/todos GET request");
-        log.info("--------------------"+userInfo);
-        TodoListResponseDTO responseDTO = todoService.retrieve(userInfo.getUserId());
+        log.debug("/api/todos GET request - user: {}", userInfo.getUserId());
+
+        // 목록 버전은 목록 조회 전에 읽어야 ETag보다 옛 데이터가 응답되지 않음
+        String eTag = listETag(userInfo.getUserId(),
+                todoService.listVersion(userInfo.getUserId()));
+        if(matchesETag(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(LIST_CACHE_CONTROL)
+                    .build();
+        }
+
+        try {
+            TodoListResponseDTO responseDTO = todoService.retrieve(userInfo.getUserId(), limit, cursor);
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(LIST_CACHE_CONTROL)
+                    .body(responseDTO);
+        } catch (IllegalArgumentException e) {
+            log.warn(e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(TodoListResponseDTO.builder().error(e.getMessage()).build());
+        }
+    }
+
+    //할 일 변경 알림 구독 (Server-Sent Events)
+    //GET: /api/todos/stream (EventSource 는 헤더를 못 보내므로 ?access_token= 도 허용)
+    //같은 회원의 다른 기기에서 등록, 수정, 삭제한 변경분을 "change" 이벤트로 받는다.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @AuthenticationPrincipal TokenUserInfo userInfo
+    ) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        TodoChangeBus.Subscription subscription;
+        try {
+            subscription = changeBus.subscribe(userInfo.getUserId(), new SseChangeSink(emitter));
+        } catch (IllegalStateException e) {
+            log.warn("{} - user: {}", e.getMessage(), userInfo.getUserId());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                // 프록시(nginx)가 이벤트를 모아서 보내지 않도록
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    // 변경분을 SSE 이벤트로 보내는 구독자 (id 는 목록 버전)
+    private static final class SseChangeSink implements TodoChangeBus.Sink {
+        private final SseEmitter emitter;
+
+        private SseChangeSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(TodoDeltaResponseDTO change) throws Exception {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(change.getVersion()))
+                    .name("change")
+                    .data(change, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws Exception {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    // 회원별 목록 버전으로 만든 약한 ETag (다른 회원과 겹치지 않도록 회원 식별값 포함)
+    private String listETag(String userId, long version) {
+        return "W/\"" + Integer.toHexString(userId.hashCode()) + "-" + version + "\"";
+    }
 
-        return ResponseEntity.ok().body(responseDTO);
+    // If-None-Match 헤더에 현재 ETag가 있는지 약한 비교로 확인
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if(ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        String opaque = eTag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if(tag.equals("*")) return true;
+            if(tag.startsWith("W/")) tag = tag.substring(2);
+            if(tag.equals(opaque)) return true;
+        }
+        return false;
     }
 
 
@@ -100,7 +225,9 @@ public class TodoController {
             @AuthenticationPrincipal TokenUserInfo userInfo,
             @Validated @RequestBody TodoModifyRequestDTO requestDTO,
             BindingResult result,
-            HttpServletRequest request
+            HttpServletRequest request,
+            @RequestHeader(value = RESPONSE_MODE_HEADER, required = false) String modeHeader,
+            @RequestParam(value = "mode", required = false) String mode
     ) {
         if(result.hasErrors()) {
             return ResponseEntity.badRequest()
@@ -111,6 +238,10 @@ public class TodoController {
         log.info("modifying dto: {}", requestDTO);
 
         try {
+            if(isDeltaMode(modeHeader, mode)) {
+                TodoDeltaResponseDTO deltaDTO = todoService.updateDelta(requestDTO, userInfo.getUserId());
+                return ResponseEntity.ok().body(deltaDTO);
+            }
             TodoListResponseDTO responseDTO = todoService.update(requestDTO,userInfo.getUserId());
             return ResponseEntity.ok().body(responseDTO);
         } catch (RuntimeException e) {
@@ -120,4 +251,79 @@ public class TodoController {
 
     }
 
+    //할 일 일괄 등록 요청
+    @PostMapping("/batch")
+    public ResponseEntity<?> createTodoBatch(
+            @AuthenticationPrincipal TokenUserInfo userInfo,
+            @Validated @RequestBody TodoBatchCreateRequestDTO requestDTO,
+            BindingResult result
+    ) {
+        if(result.hasErrors()) {
+            log.warn("DTO 검증 에러 발생: {}", result.getFieldError());
+            return ResponseEntity.badRequest()
+                    .body(result.getFieldError());
+        }
+
+        try {
+            TodoBatchResponseDTO responseDTO = todoService.createBatch(requestDTO, userInfo);
+            return ResponseEntity.ok().body(responseDTO);
+        } catch (IllegalStateException e) {
+            log.warn(e.getMessage());
+            return ResponseEntity.status(401).body(e.getMessage());
+        } catch (RuntimeException e) {
+            log.error(e.getMessage());
+            return ResponseEntity.internalServerError()
+                    .body(TodoBatchResponseDTO.builder().error(e.getMessage()).build());
+        }
+    }
+
+    //할 일 일괄 수정 요청
+    @PatchMapping("/batch")
+    public ResponseEntity<?> updateTodoBatch(
+            @AuthenticationPrincipal TokenUserInfo userInfo,
+            @Validated @RequestBody TodoBatchModifyRequestDTO requestDTO,
+            BindingResult result
+    ) {
+        if(result.hasErrors()) {
+            return ResponseEntity.badRequest()
+                    .body(result.getFieldError());
+        }
+
+        try {
+            TodoBatchResponseDTO responseDTO = todoService.updateBatch(requestDTO, userInfo.getUserId());
+            return ResponseEntity.ok().body(responseDTO);
+        } catch (RuntimeException e) {
+            log.error(e.getMessage());
+            return ResponseEntity.internalServerError()
+                    .body(TodoBatchResponseDTO.builder().error(e.getMessage()).build());
+        }
+    }
+
+    //할 일 일괄 삭제 요청
+    @DeleteMapping("/batch")
+    public ResponseEntity<?> deleteTodoBatch(
+            @AuthenticationPrincipal TokenUserInfo userInfo,
+            @Validated @RequestBody TodoBatchDeleteRequestDTO requestDTO,
+            BindingResult result
+    ) {
+        if(result.hasErrors()) {
+            return ResponseEntity.badRequest()
+                    .body(result.getFieldError());
+        }
+
+        try {
+            TodoBatchResponseDTO responseDTO = todoService.deleteBatch(requestDTO, userInfo.getUserId());
+            return ResponseEntity.ok().body(responseDTO);
+        } catch (RuntimeException e) {
+            log.error(e.getMessage());
+            return ResponseEntity.internalServerError()
+                    .body(TodoBatchResponseDTO.builder().error(e.getMessage()).build());
+        }
+    }
+
+    // 헤더 또는 쿼리 파라미터로 델타 응답을 요청했는지 확인
+    private boolean isDeltaMode(String modeHeader, String mode) {
+        return DELTA_MODE.equalsIgnoreCase(modeHeader) || DELTA_MODE.equalsIgnoreCase(mode);
+    }
+
 }
@@ -0,0 +1,21 @@
+package com.example.todo.todoapi.dto.request;
+
+import lombok.*;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Setter @Getter
+@ToString @EqualsAndHashCode
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class TodoBatchCreateRequestDTO {
+
+    @NotEmpty
+    @Size(max = TodoBatchModifyRequestDTO.MAX_BATCH_SIZE)
+    @Valid
+    private List<TodoCreateRequestDTO> todos;
+
+}
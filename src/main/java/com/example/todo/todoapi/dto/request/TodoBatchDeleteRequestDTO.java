@@ -0,0 +1,20 @@
+package com.example.todo.todoapi.dto.request;
+
+import lombok.*;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Setter @Getter
+@ToString @EqualsAndHashCode
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class TodoBatchDeleteRequestDTO {
+
+    @NotEmpty
+    @Size(max = TodoBatchModifyRequestDTO.MAX_BATCH_SIZE)
+    private List<@NotBlank String> ids;
+
+}
@@ -0,0 +1,24 @@
+package com.example.todo.todoapi.dto.request;
+
+import lombok.*;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Setter @Getter
+@ToString @EqualsAndHashCode
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class TodoBatchModifyRequestDTO {
+
+    // 한 번의 일괄 요청으로 처리할 수 있는 최대 항목 수
+    public static final int MAX_BATCH_SIZE = 100;
+
+    @NotEmpty
+    @Size(max = MAX_BATCH_SIZE)
+    @Valid
+    private List<TodoModifyRequestDTO> todos;
+
+}
@@ -0,0 +1,24 @@
+package com.example.todo.todoapi.dto.response;
+
+import lombok.*;
+
+// 일괄 요청의 항목별 처리 결과
+@Setter
+@Getter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoBatchItemResultDTO {
+
+    public enum Status {
+        CREATED, UPDATED, DELETED, NOT_FOUND
+    }
+
+    private int index; //요청 목록에서의 순서
+    private String id;
+    private Status status;
+    private TodoDetailResponseDTO todo; //처리된 할 일 (실패하거나 삭제된 경우 null)
+
+}
@@ -0,0 +1,20 @@
+package com.example.todo.todoapi.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Setter
+@Getter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoBatchResponseDTO {
+
+    private String error; //에러 발생 시 에러 메세지를 담을 필드
+    private List<TodoBatchItemResultDTO> results; //요청 순서대로 항목별 결과
+    private long version; //일괄 처리가 반영된 회원의 목록 버전
+
+}
@@ -0,0 +1,6 @@
+package com.example.todo.todoapi.dto.response;
+
+// 할 일 변경 응답(델타)의 종류
+public enum TodoChangeType {
+    CREATED, UPDATED, DELETED
+}
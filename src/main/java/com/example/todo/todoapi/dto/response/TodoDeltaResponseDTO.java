@@ -0,0 +1,21 @@
+package com.example.todo.todoapi.dto.response;
+
+import lombok.*;
+
+// 등록, 수정, 삭제 후 전체 목록 대신 변경된 할 일 하나만 응답할 때 사용
+// 클라이언트는 version을 보고 로컬 목록에 변경분을 반영한다.
+@Setter
+@Getter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoDeltaResponseDTO {
+
+    private String error; //에러 발생 시 에러 메세지를 담을 필드
+    private TodoChangeType type; //변경 종류
+    private TodoDetailResponseDTO todo; //변경된 할 일 (삭제 시 id만 포함)
+    private long version; //변경이 반영된 회원의 목록 버전
+
+}
@@ -1,8 +1,11 @@
 package com.example.todo.todoapi.dto.response;
 
 import com.example.todo.todoapi.entity.Todo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Setter
 @Getter
 @ToString
@@ -16,11 +19,16 @@ public class TodoDetailResponseDTO {
     private String title;
     private boolean done;
 
+    // 커서 페이징 계산용 (응답 JSON에는 포함하지 않음)
+    @JsonIgnore
+    private LocalDateTime createDate;
+
     // 엔터티를 DTO로 만들어주는 생성자
     public TodoDetailResponseDTO(Todo todo) {
         this.id = todo.getTodoId();
         this.title = todo.getTitle();
         this.done = todo.isDone();
+        this.createDate = todo.getCreateDate();
     }
 }
 
@@ -15,6 +15,7 @@ public class TodoListResponseDTO {
 
     private String error; //에러 발생 시 에러 메세지를 담을 필드
     private List<TodoDetailResponseDTO> todos;
+    private String next; //다음 페이지 커서 (마지막 페이지면 null)
 
 }
 
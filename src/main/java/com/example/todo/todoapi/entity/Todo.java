@@ -1,6 +1,7 @@
 package com.example.todo.todoapi.entity;
 
 import com.example.todo.userapi.entity.User;
+import com.example.todo.id.TimeOrderedIds;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.GenericGenerator;
@@ -13,12 +14,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tbl_todo")
+@Table(name = "tbl_todo", indexes = {
+        // 회원별 목록 커서 페이징 (user_id, create_date, todo_id) 순서로 조회
+        @Index(name = "idx_todo_user_created", columnList = "user_id, create_date, todo_id")
+})
 public class Todo {
 
     @Id
-    @GeneratedValue(generator = "system-uuid")
-    @GenericGenerator(name = "system-uuid", strategy = "uuid")
+    @Column(length = TimeOrderedIds.HEX_LENGTH)
+    @GeneratedValue(generator = "time-ordered")
+    @GenericGenerator(name = "time-ordered", strategy = "com.example.todo.id.TimeOrderedIdGenerator")
     private String todoId;
 
     @Column(nullable = false, length = 30)
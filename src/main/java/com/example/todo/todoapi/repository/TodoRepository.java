@@ -1,12 +1,18 @@
 package com.example.todo.todoapi.repository;
 
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
 import com.example.todo.todoapi.entity.Todo;
 import com.example.todo.userapi.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TodoRepository
     extends JpaRepository<Todo, String> {
@@ -18,4 +24,57 @@ public interface TodoRepository
     //화원이 작성한 일정의 개수를 리턴
     @Query("SELECT count(*) FROM Todo t Where t.user=: user")
     int countByUser(@Param("user") User user);
+
+    //회원 식별자로 일정 개수 리턴 (tbl_user 조인 없음)
+    @Query("SELECT count(t) FROM Todo t WHERE t.user.id = :userId")
+    int countByUserId(@Param("userId") String userId);
+
+    //회원 본인의 할 일 단건 조회
+    @Query("SELECT t FROM Todo t WHERE t.todoId = :todoId AND t.user.id = :userId")
+    Optional<Todo> findByIdAndUserId(@Param("todoId") String todoId, @Param("userId") String userId);
+
+    //회원 본인의 할 일 삭제 (삭제된 행 수 리턴)
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.todoId = :todoId AND t.user.id = :userId")
+    int deleteByIdAndUserId(@Param("todoId") String todoId, @Param("userId") String userId);
+
+    //회원 본인의 할 일 중 주어진 id에 해당하는 것을 DTO로 조회
+    @Query("SELECT new com.example.todo.todoapi.dto.response.TodoDetailResponseDTO(" +
+            "t.todoId, t.title, t.done, t.createDate) " +
+            "FROM Todo t WHERE t.todoId IN :todoIds AND t.user.id = :userId")
+    List<TodoDetailResponseDTO> findDetailsByIdsAndUserId(@Param("todoIds") Collection<String> todoIds,
+                                                          @Param("userId") String userId);
+
+    //회원 본인의 할 일 완료 여부 일괄 수정
+    @Modifying
+    @Query("UPDATE Todo t SET t.done = :done WHERE t.todoId IN :todoIds AND t.user.id = :userId")
+    int updateDoneByIdsAndUserId(@Param("todoIds") Collection<String> todoIds,
+                                 @Param("userId") String userId,
+                                 @Param("done") boolean done);
+
+    //회원 본인의 할 일 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.todoId IN :todoIds AND t.user.id = :userId")
+    int deleteByIdsAndUserId(@Param("todoIds") Collection<String> todoIds,
+                             @Param("userId") String userId);
+
+    // 특정 회원의 할일 목록을 DTO로 바로 조회 (엔터티, 회원 프록시 생성 없음)
+    // 첫 페이지 또는 전체 목록 조회에 사용
+    @Query("SELECT new com.example.todo.todoapi.dto.response.TodoDetailResponseDTO(" +
+            "t.todoId, t.title, t.done, t.createDate) " +
+            "FROM Todo t WHERE t.user.id = :userId " +
+            "ORDER BY t.createDate, t.todoId")
+    List<TodoDetailResponseDTO> findDetailsByUserId(@Param("userId") String userId, Pageable pageable);
+
+    // 커서 (createDate, todoId) 이후의 할일 목록을 DTO로 조회
+    @Query("SELECT new com.example.todo.todoapi.dto.response.TodoDetailResponseDTO(" +
+            "t.todoId, t.title, t.done, t.createDate) " +
+            "FROM Todo t WHERE t.user.id = :userId " +
+            "AND (t.createDate > :createDate " +
+            "OR (t.createDate = :createDate AND t.todoId > :todoId)) " +
+            "ORDER BY t.createDate, t.todoId")
+    List<TodoDetailResponseDTO> findDetailsByUserIdAfter(@Param("userId") String userId,
+                                                         @Param("createDate") LocalDateTime createDate,
+                                                         @Param("todoId") String todoId,
+                                                         Pageable pageable);
 }
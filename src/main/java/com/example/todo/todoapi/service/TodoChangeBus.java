@@ -0,0 +1,233 @@
+package com.example.todo.todoapi.service;
+
+import com.example.todo.todoapi.dto.response.TodoDeltaResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원별 할 일 변경 알림 버스 (서버 내부 fan-out)
+ * 커밋이 끝난 변경분(TodoDeltaResponseDTO)을 같은 회원의 모든 구독자(/api/todos/stream)에게 전달한다.
+ * - 발행하는 쪽(요청 스레드)은 구독자별 버퍼에 넣기만 하고, 전송은 작업 스레드에서 한다.
+ * - 버퍼가 가득 차면 가장 오래된 변경분을 버린다. (클라이언트는 버전이 건너뛰면 목록을 다시 조회)
+ * - 주기적으로 heartbeat 를 보내서 끊어진 연결을 정리하고 프록시의 유휴 연결 종료를 막는다.
+ */
+@Component
+@Slf4j
+public class TodoChangeBus {
+
+    // 구독자에게 실제로 보내는 쪽 (SSE 연결 등)
+    public interface Sink {
+        void send(TodoDeltaResponseDTO change) throws Exception;
+
+        void heartbeat() throws Exception;
+    }
+
+    // 버퍼 안에서 heartbeat 를 나타내는 값
+    private static final TodoDeltaResponseDTO HEARTBEAT = new TodoDeltaResponseDTO();
+
+    private final ConcurrentMap<String, Set<Subscription>> subscribers = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final int bufferSize;
+    private final int maxPerUser;
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @Autowired
+    public TodoChangeBus(@Value("${todo.stream.threads:4}") int threads,
+                         @Value("${todo.stream.queue-size:10000}") int queueSize,
+                         @Value("${todo.stream.buffer-size:64}") int bufferSize,
+                         @Value("${todo.stream.max-per-user:5}") int maxPerUser) {
+        this(newExecutor(threads, queueSize), bufferSize, maxPerUser);
+    }
+
+    TodoChangeBus(Executor executor, int bufferSize, int maxPerUser) {
+        this.executor = executor;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.maxPerUser = maxPerUser;
+    }
+
+    private static ThreadPoolExecutor newExecutor(int threads, int queueSize) {
+        AtomicInteger seq = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    Thread t = new Thread(r, "todo-stream-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 회원의 변경 알림 구독
+     * @param userId - 구독할 회원 식별자
+     * @param sink - 변경분을 보낼 대상
+     * @return - 구독 정보 (연결이 끝나면 close 해야 함)
+     * @throws IllegalStateException - 회원별 최대 구독 수를 넘은 경우
+     */
+    public Subscription subscribe(String userId, Sink sink) {
+        Subscription subscription = new Subscription(userId, sink);
+        subscribers.compute(userId, (k, set) -> {
+            if (set == null) set = ConcurrentHashMap.newKeySet();
+            if (set.size() >= maxPerUser) {
+                throw new IllegalStateException("동시에 구독할 수 있는 연결 수를 초과했습니다.");
+            }
+            set.add(subscription);
+            return set;
+        });
+        subscriberCount.incrementAndGet();
+        return subscription;
+    }
+
+    // 회원의 모든 구독자에게 변경분 전달 (커밋 후 호출)
+    public void publish(String userId, TodoDeltaResponseDTO change) {
+        published.increment();
+        Set<Subscription> set = subscribers.get(userId);
+        if (set == null) return;
+        for (Subscription subscription : set) {
+            subscription.offer(change);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${todo.stream.heartbeat-ms:15000}",
+            fixedDelayString = "${todo.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscription> set : subscribers.values()) {
+            for (Subscription subscription : set) {
+                subscription.offer(HEARTBEAT);
+            }
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscribers.computeIfPresent(subscription.userId, (k, set) -> {
+            if (set.remove(subscription)) subscriberCount.decrementAndGet();
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdownNow();
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    // 구독자 한 명 (버퍼와 전송 상태)
+    public final class Subscription {
+        private final String userId;
+        private final Sink sink;
+        private final ArrayDeque<TodoDeltaResponseDTO> buffer = new ArrayDeque<>();
+        // 전송 작업이 실행 대기 중이거나 실행 중인지 (구독자마다 전송 스레드는 최대 1개)
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscription(String userId, Sink sink) {
+            this.userId = userId;
+            this.sink = sink;
+        }
+
+        private void offer(TodoDeltaResponseDTO change) {
+            if (closed) return;
+            synchronized (buffer) {
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();
+                    dropped.increment();
+                }
+                buffer.addLast(change);
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (closed || !draining.compareAndSet(false, true)) return;
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 버퍼에 남겨두고 다음 발행이나 heartbeat 때 다시 시도
+                draining.set(false);
+            }
+        }
+
+        // 버퍼를 비울 때까지 전송 (락 밖에서 전송하므로 느린 연결이 발행을 막지 않음)
+        private void drain() {
+            try {
+                while (!closed) {
+                    TodoDeltaResponseDTO next;
+                    synchronized (buffer) {
+                        next = buffer.pollFirst();
+                    }
+                    if (next == null) break;
+                    if (next == HEARTBEAT) {
+                        sink.heartbeat();
+                    } else {
+                        sink.send(next);
+                        delivered.increment();
+                    }
+                }
+            } catch (Exception e) {
+                log.debug("변경 알림 전송 실패, 구독 종료 - user: {}, {}", userId, e.getMessage());
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // 마지막 확인 후 들어온 변경분이 있으면 다시 전송
+            boolean pending;
+            synchronized (buffer) {
+                pending = !buffer.isEmpty();
+            }
+            if (pending) scheduleDrain();
+        }
+
+        // 구독 종료 (연결 완료, 시간 초과, 전송 실패)
+        public void close() {
+            if (closed) return;
+            closed = true;
+            synchronized (buffer) {
+                buffer.clear();
+            }
+            remove(this);
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+    }
+}
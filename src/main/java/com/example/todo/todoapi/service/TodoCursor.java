@@ -0,0 +1,58 @@
+package com.example.todo.todoapi.service;
+
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 할 일 목록 커서 페이징에 사용하는 (createDate, todoId) 위치 정보
+// 클라이언트에게는 base64url 문자열로만 노출한다.
+@Getter
+final class TodoCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createDate;
+    private final String todoId;
+
+    private TodoCursor(LocalDateTime createDate, String todoId) {
+        this.createDate = createDate;
+        this.todoId = todoId;
+    }
+
+    /**
+     * 페이지의 마지막 항목으로 다음 페이지 커서를 만든다.
+     * @param last - 현재 페이지의 마지막 할 일
+     * @return - 클라이언트에게 전달할 불투명한 커서 문자열
+     */
+    static String encode(TodoDetailResponseDTO last) {
+        String raw = last.getCreateDate().toString() + SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석한다.
+     * @param cursor - encode로 만든 커서 문자열
+     * @return - 커서 위치 정보
+     * @throws IllegalArgumentException - 형식이 잘못된 커서인 경우
+     */
+    static TodoCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx <= 0 || idx == raw.length() - 1) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new TodoCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    raw.substring(idx + 1)
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.todo.todoapi.service;
+
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 회원별 할 일 전체 목록 캐시 (LRU + TTL)
+// 조회 때마다 DB 의 목록 버전(tbl_user.todo_version)과 캐시에 저장된 버전을 비교해서
+// 다르면 무효로 취급하므로, 다른 서버에서 쓴 변경도 TTL 을 기다리지 않고 바로 반영되고
+// 커밋 전 데이터나 쓰기 도중 읽은 옛 목록이 캐시에 남지 않는다.
+@Component
+@Slf4j
+public class TodoListCache {
+
+    @Value("${todo.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${todo.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${todo.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    // accessOrder = true : 조회 순서대로 정렬해서 가장 오래 안 쓴 항목부터 제거
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * 캐시된 목록을 조회
+     * @param userId - 회원 식별자
+     * @param version - DB 에서 읽은 현재 목록 버전
+     * @return - 유효한 캐시가 없으면 null
+     */
+    public TodoListResponseDTO get(String userId, long version) {
+        if (!enabled) return null;
+
+        lock.lock();
+        try {
+            Entry entry = entries.get(userId);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.version != version || entry.isExpired(System.nanoTime())) {
+                entries.remove(userId);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 목록을 캐시에 저장
+     * @param userId - 회원 식별자
+     * @param version - 목록을 조회하기 전에 읽은 목록 버전
+     * @param value - 조회한 목록
+     */
+    public void put(String userId, long version, TodoListResponseDTO value) {
+        if (!enabled) return;
+
+        // 캐시된 목록이 밖에서 수정되지 않도록 읽기 전용으로 보관
+        TodoListResponseDTO cached = TodoListResponseDTO.builder()
+                .todos(Collections.unmodifiableList(value.getTodos()))
+                .build();
+        long expiresAt = System.nanoTime() + ttlSeconds * 1_000_000_000L;
+
+        lock.lock();
+        try {
+            entries.put(userId, new Entry(cached, version, expiresAt));
+            evictOverflow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 회원의 캐시 항목을 제거
+    public void evict(String userId) {
+        if (!enabled) return;
+
+        lock.lock();
+        try {
+            if (entries.remove(userId) != null) evictions.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private static final class Entry {
+        private final TodoListResponseDTO value;
+        private final long version;
+        private final long expiresAt;
+
+        private Entry(TodoListResponseDTO value, long version, long expiresAt) {
+            this.value = value;
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
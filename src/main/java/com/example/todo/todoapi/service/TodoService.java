@@ -1,8 +1,17 @@
 package com.example.todo.todoapi.service;
 
 import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.datasource.ReplicaLagGuard;
+import com.example.todo.outbox.OutboxWriter;
+import com.example.todo.todoapi.dto.request.TodoBatchCreateRequestDTO;
+import com.example.todo.todoapi.dto.request.TodoBatchDeleteRequestDTO;
+import com.example.todo.todoapi.dto.request.TodoBatchModifyRequestDTO;
 import com.example.todo.todoapi.dto.request.TodoCreateRequestDTO;
 import com.example.todo.todoapi.dto.request.TodoModifyRequestDTO;
+import com.example.todo.todoapi.dto.response.TodoBatchItemResultDTO;
+import com.example.todo.todoapi.dto.response.TodoBatchResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoChangeType;
+import com.example.todo.todoapi.dto.response.TodoDeltaResponseDTO;
 import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
 import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
 import com.example.todo.todoapi.entity.Todo;
@@ -12,11 +21,22 @@ import com.example.todo.userapi.entity.User;
 import com.example.todo.userapi.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,76 +47,410 @@ public class TodoService {
 
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
+    private final TodoListCache listCache;
+    private final TodoChangeBus changeBus;
+    private final OutboxWriter outboxWriter;
+    private final ReplicaLagGuard lagGuard;
+
+    // 한 번에 조회할 수 있는 최대 목록 개수
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
 
     //할 일 목록 조회
     //요청에 따라 데이터 갱신, 수정, 삭제 등이 발생한 후
     //최신의 데이터 내용을 클라이언트에게 전달해서 렌더링 하기 위해
     //목록 리턴 메서드를 서비스에서 처리.
+    //읽기 전용 (읽기/쓰기 분리 시 replica 에서 조회, 최근에 쓴 회원은 primary)
+    @Transactional(readOnly = true)
     public TodoListResponseDTO retrieve(String userId) {
 
-        // 로그인 한 유저의 정보 데이터베이스에서 조회
-        User user = getUser(userId);
-        List<Todo> entityList = todoRepository.findAllByUser(user);
+        // 목록 버전은 반드시 조회 전에 읽어야 옛 목록이 새 버전으로 캐시되지 않음
+        // (DB 에서 읽으므로 다른 서버의 쓰기로 바뀐 목록도 캐시에서 바로 무효가 됨)
+        long version = listVersion(userId);
+        TodoListResponseDTO cached = listCache.get(userId, version);
+        if (cached != null) return cached;
 
-        List<TodoDetailResponseDTO> dtoList = entityList.stream()
-                /*.map(todo -> new TodoDetailResponseDTO(todo))*/
-                .map(TodoDetailResponseDTO::new)
-                .collect(Collectors.toList());
+        TodoListResponseDTO responseDTO = findList(userId);
+        listCache.put(userId, version, responseDTO);
+        return responseDTO;
+    }
+
+    // 회원의 현재 목록 버전 (조건부 요청 확인용, 회원 행의 todo_version 만 조회)
+    // DB 에 있으므로 어느 서버에서 읽어도 같은 값이고, 서버를 재시작해도 유지된다.
+    @Transactional(readOnly = true)
+    public long listVersion(String userId) {
+        return userRepository.findTodoVersionById(userId).orElse(0L);
+    }
+
+    // 캐시를 거치지 않고 DB에서 목록 조회
+    // 쓰기 작업 직후(커밋 전)에는 이 메서드로 조회해야 캐시에 커밋 전 데이터가 남지 않음
+    private TodoListResponseDTO findList(String userId) {
+
+        // 엔터티를 거치지 않고 DTO로 바로 조회
+        List<TodoDetailResponseDTO> dtoList
+                = todoRepository.findDetailsByUserId(userId, Pageable.unpaged());
 
         return TodoListResponseDTO.builder()
                 .todos(dtoList)
                 .build();
     }
 
-    private User getUser(String userId) {
-        User user = userRepository.findById(userId).orElseThrow(
+    /**
+     * 할 일 목록을 (createDate, todoId) 기준 커서 방식으로 페이징 조회
+     * @param userId - 로그인한 회원의 식별자
+     * @param limit - 페이지 크기 (null이면 기본값)
+     * @param cursor - 이전 응답의 next 값 (null이면 첫 페이지)
+     * @return - 할 일 목록과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public TodoListResponseDTO retrieve(String userId, Integer limit, String cursor) {
+        if (limit == null && cursor == null) return retrieve(userId);
+
+        int size = (limit == null) ? DEFAULT_PAGE_SIZE
+                : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        List<TodoDetailResponseDTO> dtoList;
+        if (cursor == null) {
+            dtoList = todoRepository.findDetailsByUserId(userId, pageable);
+        } else {
+            TodoCursor position = TodoCursor.decode(cursor);
+            dtoList = todoRepository.findDetailsByUserIdAfter(
+                    userId, position.getCreateDate(), position.getTodoId(), pageable);
+        }
+
+        String next = null;
+        if (dtoList.size() > size) {
+            dtoList = dtoList.subList(0, size);
+            next = TodoCursor.encode(dtoList.get(size - 1));
+        }
+
+        return TodoListResponseDTO.builder()
+                .todos(dtoList)
+                .next(next)
+                .build();
+    }
+
+    /**
+     * 목록을 바꾸는 쓰기 전에 회원 행을 잠그고 조회
+     * 잠금은 트랜잭션이 끝날 때까지 유지되므로 같은 회원의 쓰기는 차례로 실행되고,
+     * 목록 버전(todo_version)도 커밋 순서대로 증가한다.
+     * @param userId - 로그인한 회원 식별자
+     * @return - 잠근 회원 엔터티 (목록 버전 증가, 할 일 연결에 사용)
+     */
+    private User lockUser(String userId) {
+        return userRepository.findByIdForUpdate(userId).orElseThrow(
                 () -> new RuntimeException("회원 정보가 없습니다.")
         );
-        return user;
     }
 
 
     //할 일 삭제
     public TodoListResponseDTO delete(final String todoId, String userId) {
-        try {
-            todoRepository.deleteById(todoId);
-        } catch (Exception e) {
-            log.error("id가 존재하지 않아 삭제에 실패했습니다. - ID: {}, err: {}"
-                        ,todoId, e.getMessage());
+        deleteTodo(todoId, userId);
+        return findList(userId);
+    }
+
+    //할 일 삭제 후 변경분만 리턴
+    public TodoDeltaResponseDTO deleteDelta(final String todoId, String userId) {
+        return deleteTodo(todoId, userId);
+    }
+
+    private TodoDeltaResponseDTO deleteTodo(final String todoId, String userId) {
+        User user = lockUser(userId);
+        // 조회 없이 본인 할 일만 바로 삭제
+        int deleted = todoRepository.deleteByIdAndUserId(todoId, userId);
+        if (deleted == 0) {
+            log.error("id가 존재하지 않아 삭제에 실패했습니다. - ID: {}", todoId);
             throw new RuntimeException("id가 존재하지 않아 삭제에 실패했습니다.");
         }
-        return retrieve(userId);
+        TodoDetailResponseDTO deletedTodo = TodoDetailResponseDTO.builder()
+                .id(todoId)
+                .build();
+        outboxWriter.record(userId, TodoChangeType.DELETED, deletedTodo);
+        return afterWrite(user, TodoChangeType.DELETED, deletedTodo);
     }
 
     public TodoListResponseDTO create(final TodoCreateRequestDTO requestDTO,
                                       final TokenUserInfo userInfo)
             throws RuntimeException,IllegalStateException {
-    User foundUser = getUser(userInfo.getUserId());
+        createTodo(requestDTO, userInfo);
+        return findList(userInfo.getUserId());
+    }
+
+    //할 일 등록 후 변경분만 리턴
+    public TodoDeltaResponseDTO createDelta(final TodoCreateRequestDTO requestDTO,
+                                            final TokenUserInfo userInfo)
+            throws RuntimeException,IllegalStateException {
+        return createTodo(requestDTO, userInfo);
+    }
+
+    private TodoDeltaResponseDTO createTodo(final TodoCreateRequestDTO requestDTO,
+                                            final TokenUserInfo userInfo) {
         // 권한에 따른 글쓰기 제한
         // 일반회원이 일정을 5개를 초과하여 작성하면 예외를 발생
-        if(userInfo.getRole()== Role.COMMON && todoRepository.countByUser(foundUser) >= 5){
-            throw new IllegalStateException("일반회원은 더이상 일정을 작성할 수 없습니다.");
-        }
-        Todo todo = requestDTO.toEntity(getUser(userInfo.getUserId()));
+        User user = lockUser(userInfo.getUserId());
+        checkTodoLimit(userInfo, 1);
+        Todo todo = requestDTO.toEntity(user);
         todoRepository.save(todo);
         log.info("할 일 저장 완료! 제목: {}", requestDTO.getTitle());
-        return retrieve(userInfo.getUserId());
+        TodoDetailResponseDTO created = new TodoDetailResponseDTO(todo);
+        outboxWriter.record(userInfo.getUserId(), TodoChangeType.CREATED, created);
+        return afterWrite(user, TodoChangeType.CREATED, created);
     }
 
     public TodoListResponseDTO update(final TodoModifyRequestDTO requestDTO, String userId)
         throws RuntimeException {
+        updateTodo(requestDTO, userId);
+        return findList(userId);
+
+    }
+
+    //할 일 수정 후 변경분만 리턴
+    public TodoDeltaResponseDTO updateDelta(final TodoModifyRequestDTO requestDTO, String userId)
+        throws RuntimeException {
+        return updateTodo(requestDTO, userId);
+    }
+
+    private TodoDeltaResponseDTO updateTodo(final TodoModifyRequestDTO requestDTO, String userId) {
 
+        User user = lockUser(userId);
+        // 본인 할 일만 조회
         Optional<Todo> targetEntity
-                = todoRepository.findById(requestDTO.getId());
+                = todoRepository.findByIdAndUserId(requestDTO.getId(), userId);
+
+        if (targetEntity.isEmpty()) {
+            // 수정할 대상이 없으면 목록은 바뀌지 않음
+            return TodoDeltaResponseDTO.builder()
+                    .type(TodoChangeType.UPDATED)
+                    .version(user.getTodoVersion())
+                    .build();
+        }
+
+        // 영속 상태의 엔터티이므로 변경 감지로 UPDATE 된다.
+        Todo entity = targetEntity.get();
+        entity.setDone(requestDTO.isDone());
+
+        TodoDetailResponseDTO updated = new TodoDetailResponseDTO(entity);
+        outboxWriter.record(userId, TodoChangeType.UPDATED, updated);
+        return afterWrite(user, TodoChangeType.UPDATED, updated);
+    }
 
-        targetEntity.ifPresent(entity -> {
-            entity.setDone(requestDTO.isDone());
+    // 일반회원이 작성할 수 있는 최대 일정 개수 (리액티브 핸들러도 같은 값 사용)
+    public static final int COMMON_TODO_LIMIT = 5;
 
-            todoRepository.save(entity);
+    /**
+     * 일반회원의 일정 개수 제한 검사 (단건 등록, 일괄 등록 공통)
+     * 반드시 lockUser 로 회원 행을 잠근 뒤에 호출해야 같은 회원의 동시 등록이
+     * 개수 검사를 함께 통과하지 못한다. (INSERT 까지 같은 회원의 다른 등록은 대기)
+     * @param userInfo - 로그인한 회원 정보
+     * @param adding - 이번에 추가할 개수
+     */
+    private void checkTodoLimit(final TokenUserInfo userInfo, int adding) {
+        if (userInfo.getRole() != Role.COMMON) return;
+        if (todoRepository.countByUserId(userInfo.getUserId()) + adding > COMMON_TODO_LIMIT) {
+            throw new IllegalStateException("일반회원은 더이상 일정을 작성할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 할 일 일괄 등록 (하나의 트랜잭션, JDBC 배치 INSERT)
+     * 일반회원은 등록 후 개수가 제한을 넘으면 전체 요청을 거부한다.
+     * @param requestDTO - 등록할 할 일 목록
+     * @param userInfo - 로그인한 회원 정보
+     * @return - 요청 순서대로 항목별 결과
+     */
+    public TodoBatchResponseDTO createBatch(final TodoBatchCreateRequestDTO requestDTO,
+                                            final TokenUserInfo userInfo)
+            throws RuntimeException, IllegalStateException {
+        String userId = userInfo.getUserId();
+        List<TodoCreateRequestDTO> items = requestDTO.getTodos();
+
+        User user = lockUser(userId);
+        checkTodoLimit(userInfo, items.size());
+
+        List<Todo> entities = items.stream()
+                .map(item -> item.toEntity(user))
+                .collect(Collectors.toList());
+        todoRepository.saveAll(entities);
+
+        List<TodoBatchItemResultDTO> results = new ArrayList<>(entities.size());
+        List<TodoDetailResponseDTO> created = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            TodoDetailResponseDTO todo = new TodoDetailResponseDTO(entities.get(i));
+            created.add(todo);
+            results.add(TodoBatchItemResultDTO.builder()
+                    .index(i)
+                    .id(todo.getId())
+                    .status(TodoBatchItemResultDTO.Status.CREATED)
+                    .todo(todo)
+                    .build());
+        }
+        outboxWriter.recordAll(userId, TodoChangeType.CREATED, created);
+        log.info("할 일 일괄 저장 완료! 개수: {}", entities.size());
+        return afterBatch(user, results);
+    }
+
+    /**
+     * 할 일 완료 여부 일괄 수정 (완료 값별로 UPDATE ... WHERE todo_id IN (...) 최대 2번)
+     * @param requestDTO - 수정할 할 일 목록 (같은 id가 여러 번 오면 마지막 값 적용)
+     * @param userId - 로그인한 회원 식별자
+     * @return - 요청 순서대로 항목별 결과 (본인 할 일이 아니거나 없으면 NOT_FOUND)
+     */
+    public TodoBatchResponseDTO updateBatch(final TodoBatchModifyRequestDTO requestDTO, String userId)
+            throws RuntimeException {
+        List<TodoModifyRequestDTO> items = requestDTO.getTodos();
+        User user = lockUser(userId);
+
+        Map<String, Boolean> doneById = new LinkedHashMap<>();
+        items.forEach(item -> doneById.put(item.getId(), item.isDone()));
+
+        Map<String, TodoDetailResponseDTO> found = todoRepository
+                .findDetailsByIdsAndUserId(doneById.keySet(), userId).stream()
+                .collect(Collectors.toMap(TodoDetailResponseDTO::getId, Function.identity()));
+
+        Map<Boolean, List<String>> idsByDone = found.keySet().stream()
+                .collect(Collectors.partitioningBy(doneById::get));
+        idsByDone.forEach((done, ids) -> {
+            if (!ids.isEmpty()) todoRepository.updateDoneByIdsAndUserId(ids, userId, done);
+        });
+
+        List<TodoBatchItemResultDTO> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            String id = items.get(i).getId();
+            TodoDetailResponseDTO todo = found.get(id);
+            if (todo != null) todo.setDone(doneById.get(id));
+            results.add(TodoBatchItemResultDTO.builder()
+                    .index(i)
+                    .id(id)
+                    .status(todo == null ? TodoBatchItemResultDTO.Status.NOT_FOUND
+                            : TodoBatchItemResultDTO.Status.UPDATED)
+                    .todo(todo)
+                    .build());
+        }
+        outboxWriter.recordAll(userId, TodoChangeType.UPDATED, found.values());
+        return found.isEmpty() ? unchangedBatch(user, results) : afterBatch(user, results);
+    }
+
+    /**
+     * 할 일 일괄 삭제 (DELETE ... WHERE todo_id IN (...) 1번)
+     * @param requestDTO - 삭제할 할 일 id 목록
+     * @param userId - 로그인한 회원 식별자
+     * @return - 요청 순서대로 항목별 결과 (본인 할 일이 아니거나 없으면 NOT_FOUND)
+     */
+    public TodoBatchResponseDTO deleteBatch(final TodoBatchDeleteRequestDTO requestDTO, String userId)
+            throws RuntimeException {
+        List<String> ids = requestDTO.getIds();
+        User user = lockUser(userId);
+
+        Set<String> found = todoRepository
+                .findDetailsByIdsAndUserId(new LinkedHashSet<>(ids), userId).stream()
+                .map(TodoDetailResponseDTO::getId)
+                .collect(Collectors.toSet());
+        if (!found.isEmpty()) todoRepository.deleteByIdsAndUserId(found, userId);
+
+        List<TodoBatchItemResultDTO> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            results.add(TodoBatchItemResultDTO.builder()
+                    .index(i)
+                    .id(id)
+                    .status(found.contains(id) ? TodoBatchItemResultDTO.Status.DELETED
+                            : TodoBatchItemResultDTO.Status.NOT_FOUND)
+                    .build());
+        }
+        outboxWriter.recordAll(userId, TodoChangeType.DELETED, found.stream()
+                .map(id -> TodoDetailResponseDTO.builder().id(id).build())
+                .collect(Collectors.toList()));
+        return found.isEmpty() ? unchangedBatch(user, results) : afterBatch(user, results);
+    }
+
+    // 목록이 바뀐 일괄 처리 결과 (커밋 후 버전이 채워짐)
+    private TodoBatchResponseDTO afterBatch(User user, List<TodoBatchItemResultDTO> results) {
+        String userId = user.getId();
+        TodoBatchResponseDTO response = TodoBatchResponseDTO.builder()
+                .results(results)
+                .build();
+        afterListChange(user, version -> {
+            response.setVersion(version);
+            results.forEach(result -> publishBatchItem(userId, result, version));
+        });
+        return response;
+    }
+
+    // 일괄 처리 결과 중 실제로 바뀐 항목만 변경 알림으로 전달
+    private void publishBatchItem(String userId, TodoBatchItemResultDTO result, long version) {
+        TodoChangeType type;
+        switch (result.getStatus()) {
+            case CREATED: type = TodoChangeType.CREATED; break;
+            case UPDATED: type = TodoChangeType.UPDATED; break;
+            case DELETED: type = TodoChangeType.DELETED; break;
+            default: return;
+        }
+        TodoDetailResponseDTO todo = result.getTodo() != null ? result.getTodo()
+                : TodoDetailResponseDTO.builder().id(result.getId()).build();
+        changeBus.publish(userId, TodoDeltaResponseDTO.builder()
+                .type(type)
+                .todo(todo)
+                .version(version)
+                .build());
+    }
+
+    // 목록이 바뀌지 않은 일괄 처리 결과
+    private TodoBatchResponseDTO unchangedBatch(User user, List<TodoBatchItemResultDTO> results) {
+        return TodoBatchResponseDTO.builder()
+                .results(results)
+                .version(user.getTodoVersion())
+                .build();
+    }
+
+    /**
+     * 목록이 변경된 후 처리
+     * 목록 버전은 같은 트랜잭션에서 올리므로 새 버전은 데이터와 함께 커밋된다.
+     * 같은 회원의 다른 기기에는 커밋 후 변경 알림(TodoChangeBus)으로 전달한다.
+     * @param user - 목록이 변경된 회원 (lockUser 로 잠근 엔터티)
+     * @param type - 변경 종류
+     * @param todo - 변경된 할 일
+     * @return - 커밋 후 버전이 채워지는 변경분 응답
+     */
+    private TodoDeltaResponseDTO afterWrite(User user, TodoChangeType type,
+                                            TodoDetailResponseDTO todo) {
+        String userId = user.getId();
+        TodoDeltaResponseDTO delta = TodoDeltaResponseDTO.builder()
+                .type(type)
+                .todo(todo)
+                .build();
+        afterListChange(user, version -> {
+            delta.setVersion(version);
+            changeBus.publish(userId, delta);
         });
+        return delta;
+    }
 
-        return retrieve(userId);
+    // 목록 버전을 올리고 (커밋 시 UPDATE), 커밋이 끝난 뒤 캐시를 비운 다음 새 버전을 전달
+    // 읽기/쓰기 분리 시 잠시 동안 이 회원의 목록 조회는 primary 에서 (read-your-writes)
+    private void afterListChange(User user, LongConsumer versionConsumer) {
+        String userId = user.getId();
+        long version = user.increaseTodoVersion();
+        runAfterCommit(() -> {
+            lagGuard.markWrite(userId);
+            listCache.evict(userId);
+            versionConsumer.accept(version);
+        });
+    }
 
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
     }
 }
 
@@ -1,30 +1,41 @@
 package com.example.todo.userapi.api;
 
+import com.example.todo.auth.LoginRateLimiter;
 import com.example.todo.auth.TokenUserInfo;
 import com.example.todo.aws.S3Service;
 import com.example.todo.exception.DuplicatedEmailException;
+import com.example.todo.exception.HashingCapacityExceededException;
 import com.example.todo.exception.NoRegisteredArgumentsException;
 import com.example.todo.userapi.dto.request.LoginRequestDTO;
 import com.example.todo.userapi.dto.request.UserRequestSignUpDTO;
 import com.example.todo.userapi.dto.response.LoginResponseDTO;
 import com.example.todo.userapi.dto.response.UserSignUpResponseDTO;
+import com.example.todo.userapi.service.ProfileImageProcessor;
+import com.example.todo.userapi.service.ProfileImageUploader;
 import com.example.todo.userapi.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.sound.sampled.Port;
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @Slf4j
@@ -34,6 +45,13 @@ import java.io.IOException;
 public class UserController {
 
     private final UserService userService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final S3Service s3Service;
+
+    // 본인만 보는 사진이므로 private, 하루 동안 캐시 후 ETag로 재검증
+    private static final CacheControl PROFILE_CACHE
+            = CacheControl.maxAge(1, TimeUnit.DAYS).cachePrivate();
+
     //이메일 중복 요청 처리
     //GET: /api/auth/check?email=aaaa@bbbb.com
     @GetMapping("/check")
@@ -54,18 +72,13 @@ public class UserController {
             BindingResult result){
         log.info("/api/auth {}",dto);
 
-        String uploadFilePath = null;
         try {
         if(profileImg != null)  {
             log.info("attached file name : {}",profileImg.getOriginalFilename());
-            uploadFilePath = userService.uploadProfileImage(profileImg);
         }
 
-
-
-
-
-            UserSignUpResponseDTO responseDTO = userService.create(dto,uploadFilePath);
+            // 프로필 사진은 백그라운드에서 업로드되고 응답에는 PENDING 상태로 내려감
+            UserSignUpResponseDTO responseDTO = userService.create(dto,profileImg);
             return ResponseEntity.ok().body(responseDTO);
 
         } catch (NoRegisteredArgumentsException e) {
@@ -74,6 +87,8 @@ public class UserController {
         }catch (DuplicatedEmailException e){
             log.warn("이메일이 중복되었습니다.");
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (HashingCapacityExceededException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             return  ResponseEntity.internalServerError().build();
         }
@@ -83,16 +98,37 @@ public class UserController {
     @PostMapping("/signin")
     public ResponseEntity<?>
     signUp(@Validated@RequestBody LoginRequestDTO dto,
-                                    BindingResult result){
+                                    BindingResult result,
+                                    HttpServletRequest request){
+        // 회원 조회와 비밀번호 검증 전에 IP, 이메일별 시도 횟수 제한
+        // 로드 밸런서 뒤에서는 server.forward-headers-strategy=native (application-prod.properties) 로
+        // 신뢰하는 프록시가 보낸 X-Forwarded-For 의 클라이언트 IP 가 getRemoteAddr() 로 들어온다.
+        long retryAfter = loginRateLimiter.check(request.getRemoteAddr(), dto.getEmail());
+        if (retryAfter > 0) {
+            log.warn("로그인 시도 제한 - ip: {}", request.getRemoteAddr());
+            return ResponseEntity.status(loginRateLimiter.getRejectStatus())
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .body("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
         try {
             LoginResponseDTO responseDTO = userService.authenticate(dto);
             return ResponseEntity.ok().body(responseDTO);
+        } catch (HashingCapacityExceededException e) {
+            log.warn("비밀번호 해시 대기열 포화로 로그인 거절");
+            return serviceUnavailable(e);
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    // 해시 작업이 밀려 있을 때 503 + Retry-After 응답
+    private ResponseEntity<?> serviceUnavailable(HashingCapacityExceededException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getMessage());
+    }
+
     // 일반회원을 프리미엄 회원으로 승격하는 요청 처리
     @PutMapping("/promote")
     //권한 검사(해당 권한이 아니라면 인가처리 거부 403 코드 리턴)
@@ -117,60 +153,77 @@ public class UserController {
     }
 
     // 프로필 사진 이미지 데이터를 클라이언트에게 응답처리
+    // S3 객체를 메모리에 올리지 않고 그대로 스트리밍 (ETag, If-None-Match, Range 는 S3 응답을 그대로 전달)
+    // GET /api/auth/load-profile?size=64 (original, 256, 64 / 기본 original)
     @GetMapping("/load-profile")
-    public  ResponseEntity<?> loadFile(@AuthenticationPrincipal TokenUserInfo userInfo){
+    public ResponseEntity<StreamingResponseBody> loadFile(
+            @AuthenticationPrincipal TokenUserInfo userInfo,
+            @RequestParam(defaultValue = "original") String size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range) {
         log.info("/api/auth/load-profile - GET user{}",userInfo.getEmail());
+        if (!ProfileImageProcessor.isVariant(size)) return ResponseEntity.badRequest().build();
 
         try {
-            //클라이언트가 요청한 프로필 사진을 응답해야함
-            //1. 프로필 사진의 경로를 얻어야함
-            String filePath
-                    = userService.findProfilePath(userInfo.getUserId());
-
-            //2. 얻어낸 파일 경로를 통해서 실제 파일 데이터 로드하기
-            File profileFile = new File(filePath);
-            if(!profileFile.exists()) return ResponseEntity.notFound().build();
-
-            //해당 경로에 저장된 파일을 바이트 배열로 직렬화해서 리턴
-            byte[] fileData = FileCopyUtils.copyToByteArray(profileFile);
-
-            //3. 응답 헤더에 컨텐츠 타입을 설정
-            HttpHeaders headers = new HttpHeaders();
-            MediaType contentType = findMediaType(filePath);
-            if(contentType == null) return  ResponseEntity.internalServerError().body("발견된 파일은 이미지 파일이 아닙니다.");
-            headers.setContentType(contentType);
-            return ResponseEntity.ok().headers(headers).body(fileData);
+            //1. 프로필 사진의 경로(manifest 경로)를 얻어서 원하는 크기의 경로로 바꿈
+            String profilePath = userService.findProfilePath(userInfo.getUserId());
+            if (profilePath == null) return ResponseEntity.notFound().build();
+
+            //2. S3 객체를 조건부/범위 요청으로 열기
+            ResponseInputStream<GetObjectResponse> object = s3Service.getObject(
+                    ProfileImageUploader.variantUrl(profilePath, size), ifNoneMatch, range);
+            GetObjectResponse meta = object.response();
+
+            //3. S3의 메타데이터로 응답 헤더 설정 (범위 요청이면 206)
+            ResponseEntity.BodyBuilder response = ResponseEntity
+                    .status(meta.contentRange() != null ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                    .eTag(meta.eTag())
+                    .cacheControl(PROFILE_CACHE)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .contentLength(meta.contentLength());
+            if (meta.contentType() != null) response.contentType(MediaType.parseMediaType(meta.contentType()));
+            if (meta.contentRange() != null) response.header(HttpHeaders.CONTENT_RANGE, meta.contentRange());
+            if (meta.lastModified() != null) response.lastModified(meta.lastModified());
+
+            return response.body(out -> {
+                try (InputStream in = object) {
+                    in.transferTo(out);
+                }
+            });
+        } catch (S3Exception e) {
+            //파일이 바뀌지 않았으면 본문 없이 304 응답
+            if (e.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .header(HttpHeaders.ETAG, ifNoneMatch)
+                        .cacheControl(PROFILE_CACHE)
+                        .build();
+            }
+            if (e.statusCode() == HttpStatus.NOT_FOUND.value()) return ResponseEntity.notFound().build();
+            if (e.statusCode() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).build();
+            }
+            log.warn("프로필 사진 조회 실패: {}", e.getMessage());
+            return ResponseEntity.internalServerError().build();
         } catch (Exception e) {
-            return ResponseEntity.internalServerError().body("파일을 찾을수 없습니다.");
-        }
-
-
-    }
-
-    private MediaType findMediaType(String filePath) {
-        String ext = filePath.substring(filePath.lastIndexOf(".") + 1).toUpperCase();
-        switch (ext){
-            case "JPG": case "JPEG":
-                return MediaType.IMAGE_JPEG;
-            case "PNG":
-                return MediaType.IMAGE_PNG;
-            case "GIF":
-                return MediaType.IMAGE_GIF;
-            default:
-                return null;
+            log.warn("프로필 사진 조회 실패: {}", e.getMessage());
+            return ResponseEntity.internalServerError().build();
         }
-
     }
 
     // S3에서 불러온 프로필 사진 처리
+    // GET /api/auth/load-s3?size=64 (original, 256, 64 / 기본 256)
     @GetMapping("/load-s3")
     public ResponseEntity<?> loadS3(
-            @AuthenticationPrincipal TokenUserInfo userInfo
+            @AuthenticationPrincipal TokenUserInfo userInfo,
+            @RequestParam(defaultValue = "256") String size
     ) {
         log.info("/api/auth/load-s3 GET -user: {}",userInfo);
+        if (!ProfileImageProcessor.isVariant(size)) {
+            return ResponseEntity.badRequest().body("지원하지 않는 크기입니다: " + size);
+        }
 try {
     String profilePath = userService.findProfilePath(userInfo.getUserId());
-    return ResponseEntity.ok().body(profilePath);
+    return ResponseEntity.ok().body(ProfileImageUploader.variantUrl(profilePath, size));
 }
 catch (Exception e){
     e.printStackTrace();
@@ -1,6 +1,7 @@
 package com.example.todo.userapi.dto.request;
 
 
+import com.example.todo.userapi.entity.ProfileStatus;
 import com.example.todo.userapi.entity.User;
 import lombok.*;
 
@@ -35,6 +36,17 @@ public class UserRequestSignUpDTO {
                 .password(this.password)
                 .userName(this.userName)
                 .profileImg(uploadFilePath)
+                .profileStatus(uploadFilePath == null ? null : ProfileStatus.READY)
+                .build();
+    }
+
+    // 프로필 사진을 백그라운드에서 업로드할 때 (경로는 업로드 완료 후 채워짐)
+    public User toEntity(ProfileStatus profileStatus){
+        return User.builder()
+                .email(this.email)
+                .password(this.password)
+                .userName(this.userName)
+                .profileStatus(profileStatus)
                 .build();
     }
 
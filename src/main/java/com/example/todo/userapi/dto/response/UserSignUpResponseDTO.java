@@ -1,5 +1,6 @@
 package com.example.todo.userapi.dto.response;
 
+import com.example.todo.userapi.entity.ProfileStatus;
 import com.example.todo.userapi.entity.User;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.*;
@@ -20,9 +21,12 @@ public class UserSignUpResponseDTO {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime joinDate;
 
+    private ProfileStatus profileStatus; //프로필 사진 업로드 상태 (PENDING이면 업로드 진행 중)
+
     public UserSignUpResponseDTO(User user) {
         this.email = user.getEmail();
         this.userName = user.getUserName();
         this.joinDate = user.getJoinDate();
+        this.profileStatus = user.getProfileStatus();
     }
 }
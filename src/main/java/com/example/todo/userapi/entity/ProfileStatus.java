@@ -0,0 +1,6 @@
+package com.example.todo.userapi.entity;
+
+// 프로필 사진 업로드 상태 (사진 없이 가입하면 null)
+public enum ProfileStatus {
+    PENDING, READY, FAILED
+}
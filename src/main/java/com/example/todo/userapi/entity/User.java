@@ -1,5 +1,6 @@
 package com.example.todo.userapi.entity;
 
+import com.example.todo.id.TimeOrderedIds;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
@@ -20,9 +21,9 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @Column(name = "user_id")
-    @GeneratedValue(generator = "system-uuid")
-    @GenericGenerator(name = "system-uuid", strategy = "uuid")
+    @Column(name = "user_id", length = TimeOrderedIds.HEX_LENGTH)
+    @GeneratedValue(generator = "time-ordered")
+    @GenericGenerator(name = "time-ordered", strategy = "com.example.todo.id.TimeOrderedIdGenerator")
     private String id; //계정명이 아니라 식별코드
 
     @Column(unique = true, nullable = false)
@@ -42,11 +43,26 @@ public class User {
     @Builder.Default
     private Role role = Role.COMMON;
     private String profileImg;
+
+    @Enumerated(EnumType.STRING)
+    private ProfileStatus profileStatus; //프로필 사진 업로드 상태
+
+    //할 일 목록 버전 (목록이 바뀌는 트랜잭션에서 회원 행을 잠그고 1씩 증가, ETag/캐시 확인용)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long todoVersion = 0L;
+
     //등급 수정 메서드
     public void changeRole(Role role){
         this.role = role;
     }
 
+    //할 일 목록 버전을 올리고 새 버전을 리턴 (UPDATE 는 커밋 시 변경 감지로 실행)
+    public long increaseTodoVersion(){
+        return ++this.todoVersion;
+    }
+
 
 
 
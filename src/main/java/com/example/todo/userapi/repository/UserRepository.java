@@ -1,18 +1,60 @@
 package com.example.todo.userapi.repository;
 
+import com.example.todo.userapi.entity.ProfileStatus;
 import com.example.todo.userapi.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, String> {
     //쿼리 메서드
 
-    //이메일로 회원정보 조회
+    //이메일로 회원정보 조회 (로그인용, 읽기 전용 트랜잭션 - 읽기/쓰기 분리 시 replica 에서 조회)
+    @Transactional(readOnly = true)
     Optional<User> findByEmail(String email);
 
     //이메일 중복 체크
 //    @Query("Select Count(*) from User u Where u.email = ?1")
     boolean existsByEmail(String email);
+
+    //가입된 이메일 전체를 스트림으로 조회 (이메일 필터 재구축용, 트랜잭션 안에서만 사용)
+    //MySQL 에서 실제로 커서로 나눠 읽으려면 접속 URL 에 useCursorFetch=true 가 필요
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
+    //회원 행에 쓰기 잠금을 걸고 조회 (회원 단위로 쓰기 작업을 직렬화할 때 사용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") String id);
+
+    //회원의 할 일 목록 버전만 조회 (조건부 요청/캐시 확인용, 읽기 전용 트랜잭션)
+    @Transactional(readOnly = true)
+    @Query("SELECT u.todoVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findTodoVersionById(@Param("id") String id);
+
+    //프로필 사진 경로와 업로드 상태 수정 (백그라운드 업로드 완료 시 사용)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.profileImg = :profileImg, u.profileStatus = :status WHERE u.id = :id")
+    int updateProfile(@Param("id") String id,
+                      @Param("profileImg") String profileImg,
+                      @Param("status") ProfileStatus status);
+
+    //비밀번호 해시 교체 (그 사이 비밀번호가 바뀌지 않았을 때만 수정, 로그인 시 재해시에 사용)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int updatePassword(@Param("id") String id,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
 }
\ No newline at end of file
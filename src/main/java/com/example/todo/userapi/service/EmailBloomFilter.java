@@ -0,0 +1,234 @@
+package com.example.todo.userapi.service;
+
+import com.example.todo.userapi.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일 블룸 필터
+ * 이메일 중복 확인(/api/auth/check)에서 "확실히 없음"은 DB 조회 없이 바로 응답하고
+ * "있을 수도 있음"일 때만 DB를 조회한다.
+ * 서버 시작 시 tbl_user 의 이메일을 스트림으로 읽어 만들고, 가입 시 추가하며, 주기적으로 다시 만든다.
+ * (삭제를 지원하지 않으므로 재구축으로 탈퇴/변경된 이메일을 정리)
+ * - 재구축은 primary 에서 읽는다. (replica 에서 읽으면 복제 지연 동안 커밋된 가입이 새 필터에서 빠짐)
+ * - 필터는 서버마다 따로 있다. 다른 서버에서 가입한 이메일은 이 서버의 다음 재구축 전까지 필터에 없으므로
+ *   그동안 /check 가 "사용 가능"으로 잘못 답할 수 있다. (rebuild-interval-ms 만큼 늦을 수 있는 안내용 응답,
+ *   실제 가입은 existsByEmail 과 email 유일 제약으로 중복을 막음)
+ */
+@Component
+@Slf4j
+public class EmailBloomFilter {
+
+    private final UserRepository userRepository;
+    // 읽기/쓰기 분리 시에도 primary 에서 읽도록 읽기 전용이 아닌 트랜잭션
+    private final TransactionTemplate primaryTx;
+
+    @Value("${user.email-filter.enabled:true}")
+    private boolean enabled;
+
+    // 목표 오탐률
+    @Value("${user.email-filter.fpp:0.01}")
+    private double fpp;
+
+    // 최소 용량 (가입자가 적을 때도 재구축 전까지 여유 있게)
+    @Value("${user.email-filter.min-capacity:10000}")
+    private long minCapacity;
+
+    // 재구축 전까지 필터가 상태를 유지하는 동안에는 읽기에 락이 없다.
+    private volatile Bits bits;
+
+    // 재구축 중에 가입한 이메일 (새 필터에 다시 넣음)
+    private final List<String> pendingAdds = new ArrayList<>();
+    private boolean rebuilding;
+
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder positives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile long lastRebuildMillis;
+    private volatile long lastRebuildCount;
+
+    public EmailBloomFilter(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.primaryTx = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 가입된 이메일일 가능성 확인
+     * @return - false 면 확실히 가입되지 않은 이메일, true 면 DB 확인 필요
+     */
+    public boolean mightContain(String email) {
+        Bits current = bits;
+        if (!enabled || current == null) return true; // 필터 준비 전에는 항상 DB 조회
+
+        if (current.mightContain(normalize(email))) {
+            positives.increment();
+            return true;
+        }
+        negatives.increment();
+        return false;
+    }
+
+    // mightContain 이 true 였지만 DB에 없었던 경우 (관측 오탐률 계산용)
+    public void recordFalsePositive() {
+        if (enabled && bits != null) falsePositives.increment();
+    }
+
+    // 가입 완료된 이메일 추가 (락 안에서는 블로킹 호출 없음)
+    public synchronized void add(String email) {
+        String key = normalize(email);
+        if (bits != null) bits.put(key);
+        if (rebuilding) pendingAdds.add(key);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${user.email-filter.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${user.email-filter.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    // tbl_user 의 이메일을 모두 읽어서 필터를 새로 만든다.
+    public void rebuild() {
+        if (!enabled) return;
+        synchronized (this) {
+            if (rebuilding) return;
+            rebuilding = true;
+        }
+        long start = System.nanoTime();
+        try {
+            long count = primaryTx.execute(status -> {
+                Bits next = new Bits(Math.max(minCapacity, userRepository.count() * 2), fpp);
+                long n = 0;
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    for (String email : (Iterable<String>) emails::iterator) {
+                        next.put(normalize(email));
+                        n++;
+                    }
+                }
+                synchronized (this) {
+                    pendingAdds.forEach(next::put);
+                    bits = next;
+                }
+                return n;
+            });
+            lastRebuildCount = count;
+            lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("이메일 필터 재구축 완료 - count: {}, {}ms", count, lastRebuildMillis);
+        } catch (Exception e) {
+            log.error("이메일 필터 재구축 실패: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                rebuilding = false;
+                pendingAdds.clear();
+            }
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 가입되지 않은 이메일 조회 중 필터가 "있을 수도 있음"으로 답한 비율
+    public double getObservedFalsePositiveRate() {
+        long fp = falsePositives.sum();
+        long total = fp + negatives.sum();
+        return total == 0 ? 0 : (double) fp / total;
+    }
+
+    public long getNegativeCount() {
+        return negatives.sum();
+    }
+
+    public long getPositiveCount() {
+        return positives.sum();
+    }
+
+    public long getFalsePositiveCount() {
+        return falsePositives.sum();
+    }
+
+    public long getLastRebuildMillis() {
+        return lastRebuildMillis;
+    }
+
+    public long getLastRebuildCount() {
+        return lastRebuildCount;
+    }
+
+    public boolean isReady() {
+        return bits != null;
+    }
+
+    // 비트 배열 (AtomicLongArray 로 잠금 없이 비트 설정)
+    static final class Bits {
+        private final AtomicLongArray words;
+        private final long bitSize;
+        private final int hashCount;
+
+        Bits(long expectedInsertions, double fpp) {
+            // m = -n ln p / (ln 2)^2 , k = m/n ln 2
+            long m = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.min(Integer.MAX_VALUE, (m + 63) >>> 6);
+            this.words = new AtomicLongArray(wordCount);
+            this.bitSize = (long) wordCount << 6;
+            this.hashCount = Math.max(1, (int) Math.round((double) m / expectedInsertions * Math.log(2)));
+        }
+
+        void put(String key) {
+            long h1 = hash(key, 0x9E3779B97F4A7C15L);
+            long h2 = hash(key, 0xC2B2AE3D27D4EB4FL);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitSize);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word;
+                while (((word = words.get(index)) & mask) == 0) {
+                    if (words.compareAndSet(index, word, word | mask)) break;
+                }
+            }
+        }
+
+        boolean mightContain(String key) {
+            long h1 = hash(key, 0x9E3779B97F4A7C15L);
+            long h2 = hash(key, 0xC2B2AE3D27D4EB4FL);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitSize);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        // 64비트 FNV-1a + murmur 최종 혼합
+        private static long hash(String key, long seed) {
+            long h = 0xcbf29ce484222325L ^ seed;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b;
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
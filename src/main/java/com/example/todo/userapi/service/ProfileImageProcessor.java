@@ -0,0 +1,197 @@
+package com.example.todo.userapi.service;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 프로필 사진 가공
+ * 업로드된 이미지를 디코딩해서 메타데이터(EXIF 등)를 제거한 원본과
+ * 고정 크기(256px, 64px) 썸네일을 원본과 같은 포맷으로 다시 인코딩한다.
+ * 원본은 크기가 클 수 있으므로 힙이 아닌 파일로 인코딩하고, 작은 썸네일만 메모리에 둔다.
+ */
+@Component
+public class ProfileImageProcessor {
+
+    public static final String ORIGINAL = "original";
+    // 긴 변 기준 썸네일 크기 (큰 것부터)
+    public static final int[] SIZES = {256, 64};
+
+    // 디코딩 전에 확인하는 최대 픽셀 수 (압축 폭탄 방지)
+    @Value("${upload.profile.max-pixels:25000000}")
+    private long maxPixels = 25_000_000L;
+
+    /**
+     * 이미지를 디코딩해서 원본과 썸네일 변형들을 만든다.
+     * @param source - 업로드된 이미지 파일
+     * @param originalTarget - 메타데이터를 제거한 원본을 쓸 파일 (호출한 쪽에서 삭제)
+     * @return - 원본, 256, 64 순서의 변형 목록
+     * @throws IllegalArgumentException - 이미지가 아니거나 지원하지 않는 포맷, 너무 큰 이미지
+     */
+    public List<ImageVariant> process(Path source, Path originalTarget) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("이미지 파일이 아닙니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true); // 메타데이터는 읽지 않음
+                String format = normalizeFormat(reader.getFormatName());
+
+                // 헤더의 크기만 먼저 확인하고 디코딩
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IllegalArgumentException("이미지가 너무 큽니다. pixels: " + pixels);
+                }
+                BufferedImage original = toWritable(reader.read(0), format);
+
+                List<ImageVariant> variants = new ArrayList<>(SIZES.length + 1);
+                variants.add(encode(ORIGINAL, original, format, originalTarget));
+                BufferedImage current = original;
+                for (int size : SIZES) {
+                    current = resize(current, size);
+                    variants.add(encode(String.valueOf(size), current, format));
+                }
+                return variants;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 변형 이름이 유효한지 확인 (original, 256, 64)
+    public static boolean isVariant(String name) {
+        if (ORIGINAL.equals(name)) return true;
+        for (int size : SIZES) {
+            if (String.valueOf(size).equals(name)) return true;
+        }
+        return false;
+    }
+
+    private static String normalizeFormat(String formatName) {
+        String format = formatName.toLowerCase(Locale.ROOT);
+        switch (format) {
+            case "jpg": case "jpeg":
+                return "jpeg";
+            case "png": case "gif": case "bmp":
+                return format;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 이미지 포맷입니다: " + formatName);
+        }
+    }
+
+    // JPEG는 알파 채널을 쓸 수 없으므로 RGB로, 나머지는 ARGB로 맞춘다.
+    private static BufferedImage toWritable(BufferedImage image, String format) {
+        int type = imageType(format);
+        if (image.getType() == type) return image;
+        return draw(image, image.getWidth(), image.getHeight(), type);
+    }
+
+    private static int imageType(String format) {
+        return "jpeg".equals(format) || "bmp".equals(format)
+                ? BufferedImage.TYPE_INT_RGB
+                : BufferedImage.TYPE_INT_ARGB;
+    }
+
+    // 긴 변이 size가 되도록 비율을 유지하며 축소 (확대는 하지 않음)
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄여 나간다.
+    private static BufferedImage resize(BufferedImage image, int size) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        int longest = Math.max(w, h);
+        if (longest <= size) return image;
+
+        int targetW = Math.max(1, (int) Math.round((double) w * size / longest));
+        int targetH = Math.max(1, (int) Math.round((double) h * size / longest));
+        BufferedImage current = image;
+        while (w / 2 >= targetW && h / 2 >= targetH) {
+            w /= 2;
+            h /= 2;
+            current = draw(current, w, h, image.getType());
+        }
+        if (w != targetW || h != targetH) {
+            current = draw(current, targetW, targetH, image.getType());
+        }
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, int type) {
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    // 새 BufferedImage를 인코딩하므로 원본의 메타데이터는 남지 않는다.
+    private static ImageVariant encode(String name, BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, out)) {
+            throw new IllegalArgumentException("이미지를 인코딩할 수 없습니다: " + format);
+        }
+        byte[] data = out.toByteArray();
+        return new ImageVariant(name, data, null, data.length, "image/" + format,
+                image.getWidth(), image.getHeight());
+    }
+
+    // 파일로 인코딩 (크기는 인코딩이 끝난 파일에서 읽음)
+    private static ImageVariant encode(String name, BufferedImage image, String format, Path target)
+            throws IOException {
+        if (!ImageIO.write(image, format, target.toFile())) {
+            throw new IllegalArgumentException("이미지를 인코딩할 수 없습니다: " + format);
+        }
+        return new ImageVariant(name, null, target, Files.size(target), "image/" + format,
+                image.getWidth(), image.getHeight());
+    }
+
+    // 가공된 이미지 한 개 (썸네일은 메모리, 원본은 파일)
+    @Getter
+    public static final class ImageVariant {
+        private final String name;
+        private final byte[] data;
+        private final Path file;
+        private final long length;
+        private final String contentType;
+        private final int width;
+        private final int height;
+
+        ImageVariant(String name, byte[] data, Path file, long length,
+                     String contentType, int width, int height) {
+            this.name = name;
+            this.data = data;
+            this.file = file;
+            this.length = length;
+            this.contentType = contentType;
+            this.width = width;
+            this.height = height;
+        }
+
+        // 인코딩된 이미지를 읽는 스트림 (파일이면 힙에 올리지 않고 파일에서 바로 읽음)
+        public InputStream openStream() throws IOException {
+            return file != null ? Files.newInputStream(file) : new ByteArrayInputStream(data);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.todo.userapi.service;
+
+import com.example.todo.aws.S3Service;
+import com.example.todo.userapi.entity.ProfileStatus;
+import com.example.todo.userapi.repository.UserRepository;
+import com.example.todo.userapi.service.ProfileImageProcessor.ImageVariant;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로필 사진 백그라운드 업로드
+ * 1. 요청 스레드에서는 업로드된 파일을 임시 파일로만 옮겨 두고 (stage)
+ * 2. 별도 작업 스레드에서 원본/썸네일을 만들어 S3에 올린 뒤 (ProfileImageProcessor)
+ * 3. 변형 목록(manifest.json)의 경로로 회원의 프로필 경로를 갱신한다. (uploadAsync)
+ * 원본은 임시 파일에서 길이를 알고 스트림으로 올리고, 작은 썸네일만 메모리에서 올린다.
+ * 작업 대기열이 가득 차면 요청 스레드에서 처리하지 않고 거부해서 프로필을 FAILED 로 남긴다.
+ *
+ * S3 키: profiles/{uploadId}/{original|256|64}, profiles/{uploadId}/manifest.json
+ */
+@Component
+@Slf4j
+public class ProfileImageUploader {
+
+    public static final String KEY_PREFIX = "profiles/";
+    public static final String MANIFEST_NAME = "manifest.json";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final S3Service s3Service;
+    private final UserRepository userRepository;
+    private final ProfileImageProcessor processor;
+    private final Executor executor;
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    @Autowired
+    public ProfileImageUploader(S3Service s3Service,
+                                UserRepository userRepository,
+                                ProfileImageProcessor processor,
+                                @Value("${upload.profile.threads:4}") int threads,
+                                @Value("${upload.profile.queue-size:100}") int queueSize) {
+        this(s3Service, userRepository, processor, newExecutor(threads, queueSize));
+    }
+
+    ProfileImageUploader(S3Service s3Service, UserRepository userRepository,
+                         ProfileImageProcessor processor, Executor executor) {
+        this.s3Service = s3Service;
+        this.userRepository = userRepository;
+        this.processor = processor;
+        this.executor = executor;
+    }
+
+    /**
+     * 프로필 경로(manifest 경로)에서 원하는 크기의 이미지 경로를 구한다.
+     * 썸네일 도입 전에 업로드된 경로는 그대로 돌려준다.
+     * @param profileImg - 회원의 프로필 경로
+     * @param variant - original, 256, 64
+     */
+    public static String variantUrl(String profileImg, String variant) {
+        if (profileImg == null || !profileImg.endsWith("/" + MANIFEST_NAME)) return profileImg;
+        return profileImg.substring(0, profileImg.length() - MANIFEST_NAME.length()) + variant;
+    }
+
+    private static ThreadPoolExecutor newExecutor(int threads, int queueSize) {
+        AtomicInteger seq = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    Thread t = new Thread(r, "profile-upload-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 업로드된 파일을 임시 파일로 옮긴다. (파일 전체를 힙에 올리지 않음)
+     * @param originalFile - 업로드 된 파일의 정보
+     * @return - 임시 파일 정보
+     */
+    public StagedImage stage(MultipartFile originalFile) throws IOException {
+        //업로드마다 유니크한 키 경로
+        String uploadId = UUID.randomUUID().toString();
+        Path tempFile = Files.createTempFile("profile-", ".upload");
+        try {
+            originalFile.transferTo(tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return new StagedImage(tempFile, uploadId);
+    }
+
+    /**
+     * 임시 파일을 백그라운드에서 S3에 업로드하고 회원의 프로필 경로를 갱신
+     * 대기열이 가득 차면 요청 스레드(Tomcat)에서 디코딩/업로드하지 않고 바로 거부한다.
+     * @param userId - 프로필을 갱신할 회원 식별자
+     * @param image - stage 로 만든 임시 파일
+     * @return - 업로드 작업을 받았으면 true, 거부해서 프로필을 FAILED 로 바꿨으면 false
+     */
+    public boolean uploadAsync(String userId, StagedImage image) {
+        try {
+            executor.execute(() -> upload(userId, image));
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.warn("업로드 대기열이 가득 차 프로필 사진 업로드를 거부했습니다. - user: {}", userId);
+            image.discard();
+            userRepository.updateProfile(userId, null, ProfileStatus.FAILED);
+            return false;
+        }
+    }
+
+    void upload(String userId, StagedImage image) {
+        try {
+            String keyPrefix = KEY_PREFIX + image.getUploadId() + "/";
+            Map<String, String> manifest = new LinkedHashMap<>();
+            for (ImageVariant variant : processor.process(image.getPath(), image.getOriginalPath())) {
+                manifest.put(variant.getName(), put(keyPrefix + variant.getName(), variant));
+            }
+            String url = put(keyPrefix + MANIFEST_NAME,
+                    MAPPER.writeValueAsBytes(manifest), "application/json");
+            userRepository.updateProfile(userId, url, ProfileStatus.READY);
+            log.info("프로필 사진 업로드 완료 - user: {}", userId);
+        } catch (Exception e) {
+            log.error("프로필 사진 업로드 실패 - user: {}, err: {}", userId, e.getMessage());
+            userRepository.updateProfile(userId, null, ProfileStatus.FAILED);
+        } finally {
+            image.discard();
+        }
+    }
+
+    private String put(String key, byte[] data, String contentType) {
+        return s3Service.uploadToS3Bucket(
+                new ByteArrayInputStream(data), data.length, contentType, key);
+    }
+
+    private String put(String key, ImageVariant variant) throws IOException {
+        try (InputStream in = variant.openStream()) {
+            return s3Service.uploadToS3Bucket(in, variant.getLength(), variant.getContentType(), key);
+        }
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (executor instanceof ExecutorService) {
+            ExecutorService service = (ExecutorService) executor;
+            service.shutdown();
+            service.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    // 업로드 대기 중인 임시 파일
+    @Getter
+    public static final class StagedImage {
+        private final Path path;
+        private final Path originalPath; //메타데이터를 제거하고 다시 인코딩한 원본
+        private final String uploadId;
+
+        StagedImage(Path path, String uploadId) {
+            this.path = path;
+            this.originalPath = path.resolveSibling(path.getFileName() + ".original");
+            this.uploadId = uploadId;
+        }
+
+        // 임시 파일 삭제
+        public void discard() {
+            delete(path);
+            delete(originalPath);
+        }
+
+        private static void delete(Path file) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("임시 파일 삭제 실패: {}", file);
+            }
+        }
+    }
+}
@@ -1,28 +1,31 @@
 package com.example.todo.userapi.service;
 
 
+import com.example.todo.auth.PasswordHasher;
 import com.example.todo.auth.TokenProvider;
 import com.example.todo.auth.TokenUserInfo;
-import com.example.todo.aws.S3Service;
+import com.example.todo.datasource.ReplicaLagGuard;
 import com.example.todo.exception.DuplicatedEmailException;
 import com.example.todo.exception.NoRegisteredArgumentsException;
 import com.example.todo.userapi.dto.request.LoginRequestDTO;
 import com.example.todo.userapi.dto.request.UserRequestSignUpDTO;
 import com.example.todo.userapi.dto.response.LoginResponseDTO;
 import com.example.todo.userapi.dto.response.UserSignUpResponseDTO;
+import com.example.todo.userapi.entity.ProfileStatus;
 import com.example.todo.userapi.entity.Role;
 import com.example.todo.userapi.entity.User;
 import com.example.todo.userapi.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.UUID;
+import java.util.Locale;
+import java.util.function.Supplier;
 
 
 @Service
@@ -31,51 +34,101 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder encoder;
+    private final PasswordHasher passwordHasher;
     private final TokenProvider tokenProvider;
-    private final S3Service s3Service;
+    private final ProfileImageUploader profileImageUploader;
+    private final EmailBloomFilter emailFilter;
+    private final ReplicaLagGuard lagGuard;
 //    @Value("${upload.path}")
 //    private String uploadRootPath;
 
     //회원가입 처리
     public UserSignUpResponseDTO create(final UserRequestSignUpDTO dto, String uploadFilePath)
     throws RuntimeException{
+        User saved = saveUser(dto, () -> dto.toEntity(uploadFilePath));
+        return new UserSignUpResponseDTO(saved);
+    }
 
+    /**
+     * 회원가입 처리 (프로필 사진은 백그라운드에서 업로드)
+     * 프로필 사진이 있으면 PENDING 상태로 가입시키고 업로드가 끝나면 READY로 바뀐다.
+     * @param dto - 가입 정보
+     * @param profileImg - 프로필 사진 (없으면 null)
+     */
+    public UserSignUpResponseDTO create(final UserRequestSignUpDTO dto, MultipartFile profileImg)
+    throws IOException {
+        if (profileImg == null || profileImg.isEmpty()) {
+            return create(dto, (String) null);
+        }
 
-        String email = dto.getEmail();
+        //요청 스레드에서는 임시 파일로만 옮겨둔다
+        ProfileImageUploader.StagedImage image = profileImageUploader.stage(profileImg);
+        User saved;
+        try {
+            saved = saveUser(dto, () -> dto.toEntity(ProfileStatus.PENDING));
+        } catch (RuntimeException e) {
+            image.discard();
+            throw e;
+        }
+        UserSignUpResponseDTO responseDTO = new UserSignUpResponseDTO(saved);
+        if (!profileImageUploader.uploadAsync(saved.getId(), image)) {
+            //업로드 대기열이 가득 차서 거부됨 (가입은 유지, 프로필 사진만 실패)
+            responseDTO.setProfileStatus(ProfileStatus.FAILED);
+        }
+        return responseDTO;
+    }
+
+    // 중복 검사, 패스워드 인코딩 후 저장 (toEntity는 인코딩된 패스워드로 호출됨)
+    private User saveUser(final UserRequestSignUpDTO dto, Supplier<User> toEntity) {
         if(dto == null) {
             throw new NoRegisteredArgumentsException("가입정보가 없습니다.");
         }
+        String email = dto.getEmail();
         if(userRepository.existsByEmail(email)){
             log.warn("이메일이 중복됬습니다. {}", email);
             throw new DuplicatedEmailException("중복된 이메일 입니다.");
         }
 
-        //패스워드 인코딩
-        String encoded = encoder.encode(dto.getPassword());
+        //패스워드 인코딩 (해시 전용 스레드에서 실행)
+        String encoded = passwordHasher.encode(dto.getPassword());
         dto.setPassword(encoded);
 
         //유저 엔터티로 변환
-        User user = dto.toEntity(uploadFilePath);
-        User saved = userRepository.save(user);
+        User saved = userRepository.save(toEntity.get());
+        //가입 직후 로그인이 replica 복제 지연에 걸리지 않도록 이메일로 쓰기를 표시 (save 는 커밋까지 끝난 상태)
+        lagGuard.markWrite(emailKey(email));
+
+        emailFilter.add(saved.getEmail());
 
         log.info("회원가입 정상 처리됨 saved user {}",saved);
-        return new UserSignUpResponseDTO(saved);
+        return saved;
     }
 
+    @Transactional(readOnly = true)
     public boolean isDuplicate(String email) {
-       return userRepository.existsByEmail(email);
+        //필터에 없으면 확실히 가입되지 않은 이메일 (DB 조회 생략)
+        if (!emailFilter.mightContain(email)) return false;
+        boolean exists = userRepository.existsByEmail(email);
+        if (!exists) emailFilter.recordFalsePositive();
+        return exists;
     }
 
     public LoginResponseDTO authenticate(final LoginRequestDTO dto){
-        User user = userRepository.findByEmail(dto.getEmail())
+        //조회만 읽기 전용 트랜잭션(findByEmail)으로 replica 에서 하고,
+        //BCrypt 검증은 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행 (authenticate 는 @Transactional 이 아님)
+        //spring.jpa.open-in-view=false 여야 성립 (켜져 있으면 요청 내내 첫 커넥션을 잡고 있음)
+        User user = lagGuard.withKey(emailKey(dto.getEmail()),
+                        () -> userRepository.findByEmail(dto.getEmail()))
                 .orElseThrow(); //()-> RuntimeException("가입된 회원이 아닙니다.")
         //패스워드 검증
         String rawPw = dto.getPassword();
         String encoded = user.getPassword();
-        if(!encoder.matches(rawPw,encoded)){
+        if(!passwordHasher.matches(rawPw,encoded)){
             throw new RuntimeException("비밀번호가 틀렸습니다.");
         }
+        //저장된 해시의 cost가 설정과 다르면 백그라운드에서 재해시
+        passwordHasher.rehashIfNeeded(rawPw, encoded,
+                newHash -> userRepository.updatePassword(user.getId(), encoded, newHash));
         log.info("{}님 로그인 성공!",user.getUserName());
 
         // 로그인 성공후에 클라이언트에게 무엇을 리턴할것인가
@@ -84,6 +137,8 @@ public class UserService {
         return new LoginResponseDTO(user, token);
     }
 
+    //조회와 수정을 하나의 쓰기 트랜잭션으로 (읽기/쓰기 분리 시 replica 의 옛 등급을 읽지 않도록 primary 에서)
+    @Transactional
     public LoginResponseDTO promoteToPremium(TokenUserInfo userInfo) throws NoRegisteredArgumentsException,IllegalStateException {
         User foundUser = userRepository.findById(userInfo.getUserId())
                 .orElseThrow(() -> new NoRegisteredArgumentsException("회원 조회 실패"));
@@ -95,42 +150,26 @@ public class UserService {
         //등급변경
         foundUser.changeRole(Role.PREMIUM);
         User saved = userRepository.save(foundUser);
+        lagGuard.markWriteAfterCommit(saved.getId());
 
         //토큰을 재발급
         String token = tokenProvider.createToken(saved);
 
         return new LoginResponseDTO(saved,token);
     }
-    /**
-     * 업로드된 파일을 서버에 저장하고 저장경로를 리턴
-     * @param originalFile - 업로드 된 파일의 정보
-     * @return 실제로 저장된 이미지 경로
-     */
-    public String uploadProfileImage(MultipartFile originalFile) throws IOException {
-        // 루트 디렉토리가 존재하는 지 확인후 존재하지 않으면 생성
-
-//        File rootDir = new File(uploadRootPath);
-//        if(!rootDir.exists()) rootDir.mkdir();
-
-        //파일명을 유니크하게 변경
-        String uniqueFileName = UUID.randomUUID() + "_" + originalFile.getOriginalFilename();
-        // 파일을 저장
-//        File uploadFile = new File(uploadRootPath+"/"+uniqueFileName);
-//        originalFile.transferTo(uploadFile);
-
-        //파일을 s3 버킷에 저장
-        String uploadUrl = s3Service.uploadToS3Bucket(originalFile.getBytes(), uniqueFileName);
-        return uploadUrl;
-
-
-    }
-
+    @Transactional(readOnly = true)
     public String findProfilePath(String userId) {
         User user = userRepository.findById(userId).orElseThrow();
 //        return uploadRootPath + "/" + user.getProfileImg();
         return user.getProfileImg();
     }
 
+    // 가입과 로그인을 묶는 읽기/쓰기 분리용 키 (이메일이 없으면 null - 기존 검증/예외 흐름을 그대로 탄다)
+    private static String emailKey(String email) {
+        if (email == null) return null;
+        return "email:" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
 }
 
 
@@ -0,0 +1,61 @@
+-- =====================================================================
+-- 시간순 식별자(TimeOrderedIdGenerator) 전환 스크립트 (MySQL 8 / InnoDB)
+--
+-- 새 식별자는 기존 "uuid" 생성기와 같은 32자리 16진수 문자열이므로
+-- 기존 행은 그대로 두고 애플리케이션만 배포해도 된다. (1단계만 필수 아님)
+-- 배포 후 새로 들어오는 행부터 시간 순서대로 클러스터드 인덱스 끝에 추가된다.
+--
+-- 실행 전 반드시 백업하고, 애플리케이션을 내린 상태에서 실행할 것.
+-- =====================================================================
+
+-- ---------------------------------------------------------------------
+-- 1단계 (권장) : varchar(255) utf8mb4 -> char(32) ascii
+--   기본 키/외래 키 인덱스 항목 크기가 최대 1020바이트에서 32바이트로 줄어든다.
+-- ---------------------------------------------------------------------
+-- hibernate가 만든 외래 키 이름(FK...)을 찾아서 삭제
+SET @fk := (SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'tbl_todo'
+              AND COLUMN_NAME = 'user_id' AND REFERENCED_TABLE_NAME = 'tbl_user'
+            LIMIT 1);
+SET @drop_fk := CONCAT('ALTER TABLE tbl_todo DROP FOREIGN KEY ', @fk);
+PREPARE drop_fk FROM @drop_fk;
+EXECUTE drop_fk;
+DEALLOCATE PREPARE drop_fk;
+
+ALTER TABLE tbl_user
+    MODIFY user_id CHAR(32) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+ALTER TABLE tbl_todo
+    MODIFY todo_id CHAR(32) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    MODIFY user_id CHAR(32) CHARACTER SET ascii COLLATE ascii_bin NULL;
+
+ALTER TABLE tbl_todo
+    ADD CONSTRAINT fk_todo_user FOREIGN KEY (user_id) REFERENCES tbl_user (user_id);
+
+-- ---------------------------------------------------------------------
+-- 2단계 (선택) : char(32) -> binary(16)
+--   BinaryHexIdType 매핑을 사용할 때만 실행한다.
+--   엔터티의 식별자에 아래 설정을 추가한 버전과 함께 배포해야 한다.
+--     @Type(type = "com.example.todo.id.BinaryHexIdType")
+--     @Column(columnDefinition = "binary(16)")
+--   (Todo.user 의 외래 키 컬럼도 binary(16) 으로 생성되도록 User.id 에 같이 적용)
+-- ---------------------------------------------------------------------
+-- ALTER TABLE tbl_todo DROP FOREIGN KEY fk_todo_user;
+--
+-- ALTER TABLE tbl_user ADD COLUMN user_id_bin BINARY(16) NULL;
+-- UPDATE tbl_user SET user_id_bin = UNHEX(user_id);
+-- ALTER TABLE tbl_todo ADD COLUMN todo_id_bin BINARY(16) NULL,
+--                      ADD COLUMN user_id_bin BINARY(16) NULL;
+-- UPDATE tbl_todo SET todo_id_bin = UNHEX(todo_id), user_id_bin = UNHEX(user_id);
+--
+-- ALTER TABLE tbl_user DROP PRIMARY KEY, DROP COLUMN user_id,
+--     CHANGE user_id_bin user_id BINARY(16) NOT NULL, ADD PRIMARY KEY (user_id);
+-- ALTER TABLE tbl_todo DROP PRIMARY KEY, DROP INDEX idx_todo_user_created,
+--     DROP COLUMN todo_id, DROP COLUMN user_id,
+--     CHANGE todo_id_bin todo_id BINARY(16) NOT NULL,
+--     CHANGE user_id_bin user_id BINARY(16) NULL,
+--     ADD PRIMARY KEY (todo_id),
+--     ADD INDEX idx_todo_user_created (user_id, create_date, todo_id);
+--
+-- ALTER TABLE tbl_todo
+--     ADD CONSTRAINT fk_todo_user FOREIGN KEY (user_id) REFERENCES tbl_user (user_id);
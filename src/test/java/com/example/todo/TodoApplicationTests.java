@@ -1,6 +1,7 @@
 package com.example.todo;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -8,6 +9,7 @@ import java.security.SecureRandom;
 import java.util.Base64;
 
 @SpringBootTest
+@Tag("db")
 class TodoApplicationTests {
 
 	@Test
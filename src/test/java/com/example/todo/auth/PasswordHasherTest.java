@@ -0,0 +1,86 @@
+package com.example.todo.auth;
+
+import com.example.todo.exception.HashingCapacityExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    // 스레드 1개, 대기열 1개
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+
+    PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(4), 4, executor, 5000, 3);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("해시한 비밀번호는 검증에 성공하고 시간이 기록되어야 한다.")
+    void encodeAndMatchTest() {
+        //when
+        String encoded = hasher.encode("1234");
+
+        //then
+        assertTrue(hasher.matches("1234", encoded));
+        assertFalse(hasher.matches("4321", encoded));
+        assertEquals(1, hasher.getHashCount());
+        assertEquals(2, hasher.getVerifyCount());
+        assertTrue(hasher.getHashNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 예외가 발생해야 한다.")
+    void saturationTest() throws InterruptedException {
+        //given - 작업 스레드와 대기열을 모두 채움
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        started.await();
+        executor.execute(() -> {});
+
+        //when
+        HashingCapacityExceededException e = assertThrows(
+                HashingCapacityExceededException.class, () -> hasher.encode("1234"));
+
+        //then
+        assertEquals(3, e.getRetryAfterSeconds());
+        assertEquals(1, hasher.getRejectedCount());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost가 설정과 다르면 다시 해시해야 한다.")
+    void rehashTest() throws Exception {
+        //given - cost 5 로 저장된 해시
+        String stored = new BCryptPasswordEncoder(5).encode("1234");
+        CompletableFuture<String> rehashed = new CompletableFuture<>();
+
+        //when
+        hasher.rehashIfNeeded("1234", stored, rehashed::complete);
+
+        //then
+        String newHash = rehashed.get(5, TimeUnit.SECONDS);
+        assertTrue(newHash.startsWith("$2a$04$"));
+        assertTrue(hasher.matches("1234", newHash));
+        assertFalse(hasher.needsRehash(newHash));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.todo.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketLimiterTest {
+
+    AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("burst 만큼 허용한 뒤 거절하고, 토큰이 채워지면 다시 허용해야 한다.")
+    void burstAndRefillTest() {
+        //given - 분당 6개 (10초마다 1개), 최대 3개
+        TokenBucketLimiter limiter = new TokenBucketLimiter(6, 3, 100, 4, now::get);
+
+        //when & then
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("a@abc.com"));
+        }
+        long wait = limiter.tryAcquire("a@abc.com");
+        assertEquals(TimeUnit.SECONDS.toNanos(10), wait);
+        // 다른 키는 영향 없음
+        assertEquals(0, limiter.tryAcquire("b@abc.com"));
+
+        now.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("a@abc.com"));
+        assertTrue(limiter.tryAcquire("a@abc.com") > 0);
+        assertEquals(2, limiter.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("최대 키 개수를 넘으면 유휴 버킷을 지우고, 자리가 없으면 공용 버킷을 써야 한다.")
+    void maxKeysTest() {
+        //given - stripe 1개, 키 2개까지
+        TokenBucketLimiter limiter = new TokenBucketLimiter(6, 1, 2, 1, now::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        //when - 두 키 모두 사용 중이라 c, d 는 공용 버킷을 나눠 씀
+        assertEquals(0, limiter.tryAcquire("c"));
+        assertTrue(limiter.tryAcquire("d") > 0);
+        assertEquals(2, limiter.size());
+
+        //then - 토큰이 다 채워진 뒤에는 유휴 버킷이 정리됨
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(0, limiter.tryAcquire("d"));
+        assertEquals(1, limiter.size());
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.todo.datasource;
+
+import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.userapi.entity.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 서로 다른 내장 DB 두 개를 primary / replica 로 두고 어느 쪽으로 가는지 확인
+class ReplicaRoutingDataSourceTest {
+
+    AtomicLong clock = new AtomicLong();
+    ReplicaLagGuard lagGuard = new ReplicaLagGuard(2000, 100, clock::get);
+
+    JdbcTemplate jdbc;
+    TransactionTemplate writeTx;
+    TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(lagGuard);
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Target.PRIMARY, primary,
+                ReplicaRoutingDataSource.Target.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 그 밖에는 primary 로 가야 한다.")
+    void routeByReadOnlyTest() {
+        assertEquals("replica", readOnlyTx.execute(status -> node()));
+        assertEquals("primary", writeTx.execute(status -> node()));
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 회원의 읽기는 일정 시간 동안 primary 로 가야 한다.")
+    void readYourWritesTest() {
+        //given - user1 이 쓰기 트랜잭션을 커밋
+        login("user1");
+        writeTx.executeWithoutResult(status -> write());
+
+        //then - user1 은 primary, 다른 회원은 replica
+        assertEquals("primary", readOnlyTx.execute(status -> node()));
+        login("user2");
+        assertEquals("replica", readOnlyTx.execute(status -> node()));
+
+        //when - 고정 시간이 지나면
+        login("user1");
+        clock.addAndGet(3_000_000_000L);
+
+        //then
+        assertEquals("replica", readOnlyTx.execute(status -> node()));
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 primary 고정을 남기지 않아야 한다.")
+    void rollbackDoesNotPinTest() {
+        //given
+        login("user1");
+        writeTx.executeWithoutResult(status -> {
+            write();
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertEquals("replica", readOnlyTx.execute(status -> node()));
+    }
+
+    @Test
+    @DisplayName("읽기만 한 쓰기 트랜잭션은 primary 고정을 남기지 않아야 한다.")
+    void readInWriteTxDoesNotPinTest() {
+        //given - 읽기 전용이 아닌 트랜잭션이지만 쓰기는 없음
+        login("user1");
+        assertEquals("primary", writeTx.execute(status -> node()));
+
+        //then
+        assertEquals("replica", readOnlyTx.execute(status -> node()));
+    }
+
+    @Test
+    @DisplayName("로그인 전에는 지정한 키로 쓰기와 읽기를 묶을 수 있어야 한다.")
+    void withKeyTest() {
+        //given - 가입(쓰기)을 이메일 키로 실행
+        lagGuard.withKey("email:a@abc.com", () -> writeTx.execute(status -> write()));
+
+        //then
+        assertEquals("primary", lagGuard.withKey("email:a@abc.com",
+                () -> readOnlyTx.execute(status -> node())));
+        assertEquals("replica", readOnlyTx.execute(status -> node()));
+    }
+
+    private String node() {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    // 서비스의 쓰기처럼 커밋 후 현재 키를 고정
+    private String write() {
+        String key = lagGuard.currentKey();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lagGuard.markWrite(key);
+            }
+        });
+        return node();
+    }
+
+    private void login(String userId) {
+        TokenUserInfo userInfo = TokenUserInfo.builder()
+                .userId(userId)
+                .email(userId + "@abc.com")
+                .role(Role.COMMON)
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userInfo, null, null));
+    }
+
+    // 이름이 다른 인메모리 DB는 서로 다른 인스턴스
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(10))");
+        jdbc.execute("DELETE FROM node");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
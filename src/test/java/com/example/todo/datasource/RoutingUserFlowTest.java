@@ -0,0 +1,155 @@
+package com.example.todo.datasource;
+
+import com.example.todo.userapi.dto.request.LoginRequestDTO;
+import com.example.todo.userapi.dto.request.UserRequestSignUpDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 읽기/쓰기 분리를 켠 상태에서 가입, 로그인, 등급 변경이 primary 에 쓰고 읽는지 확인
+// primary / replica 는 서로 다른 내장 DB 이고 복제는 하지 않으므로, replica 에 행이 생기면 잘못 간 것
+@SpringBootTest(properties = {
+        "todo.datasource.routing.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:route-primary;MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "todo.datasource.replica.jdbc-url=jdbc:h2:mem:route-replica;MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+        "todo.datasource.replica.driver-class-name=org.h2.Driver",
+        "todo.datasource.replica.username=sa",
+        "todo.datasource.replica.password=",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "Jwt.secret=cm91dGluZy10ZXN0LXNlY3JldC1rZXktcm91dGluZy10ZXN0LXNlY3JldC1rZXktcm91dGluZy10ZXN0LXNlY3JldC1rZXk=",
+        "aws.credentials.accessKey=test",
+        "aws.credentials.secretKey=test",
+        "aws.region=ap-northeast-2",
+        "aws.bucketName=test",
+        "auth.rate-limit.enabled=false",
+        "decorator.datasource.p6spy.enable-logging=false"
+})
+@AutoConfigureMockMvc
+class RoutingUserFlowTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    HikariDataSource replicaDataSource;
+
+    JdbcTemplate primary;
+    JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        // replica 에는 테이블 구조만 복사 (ddl-auto 는 primary 에만 적용됨)
+        replica.execute("DROP TABLE IF EXISTS tbl_user");
+        primary.queryForList("SCRIPT NODATA TABLE tbl_user", String.class).stream()
+                .filter(sql -> sql.startsWith("CREATE") && sql.contains(" TABLE ") || sql.startsWith("ALTER TABLE"))
+                .forEach(replica::execute);
+    }
+
+    @Test
+    @DisplayName("가입은 중복 조회 후에도 primary 에 저장되어야 한다.")
+    void signUpWritesToPrimaryTest() throws Exception {
+        //when
+        String email = signUp();
+
+        //then
+        assertEquals(1, countUser(primary, email));
+        assertEquals(0, countUser(replica, email));
+    }
+
+    @Test
+    @DisplayName("가입 직후 로그인은 복제 전이라도 primary 에서 회원을 찾아야 한다.")
+    void signInAfterSignUpTest() throws Exception {
+        //given
+        String email = signUp();
+
+        //when
+        String token = signIn(email);
+
+        //then
+        assertNotNull(token);
+    }
+
+    @Test
+    @DisplayName("등급 변경은 primary 의 회원을 읽고 primary 에 저장해야 한다.")
+    void promoteWritesToPrimaryTest() throws Exception {
+        //given
+        String email = signUp();
+        String token = signIn(email);
+
+        //when
+        mvc.perform(put("/api/auth/promote")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.role").value("PREMIUM"));
+
+        //then
+        assertEquals("PREMIUM", primary.queryForObject(
+                "SELECT role FROM tbl_user WHERE email = ?", String.class, email));
+        assertEquals(0, countUser(replica, email));
+    }
+
+    private String signUp() throws Exception {
+        String email = UUID.randomUUID().toString().substring(0, 8) + "@abc.com";
+        UserRequestSignUpDTO dto = UserRequestSignUpDTO.builder()
+                .email(email)
+                .password("abcd1234!")
+                .userName("춘식이")
+                .build();
+        MockMultipartFile user = new MockMultipartFile("user", "", MediaType.APPLICATION_JSON_VALUE,
+                objectMapper.writeValueAsBytes(dto));
+        mvc.perform(multipart("/api/auth").file(user))
+                .andExpect(status().isOk());
+        return email;
+    }
+
+    private String signIn(String email) throws Exception {
+        LoginRequestDTO dto = LoginRequestDTO.builder()
+                .email(email)
+                .password("abcd1234!")
+                .build();
+        String body = mvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(dto)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("token").asText();
+    }
+
+    private static int countUser(JdbcTemplate jdbc, String email) {
+        Integer count = jdbc.queryForObject("SELECT count(*) FROM tbl_user WHERE email = ?", Integer.class, email);
+        return count == null ? 0 : count;
+    }
+}
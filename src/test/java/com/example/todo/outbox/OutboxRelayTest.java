@@ -0,0 +1,141 @@
+package com.example.todo.outbox;
+
+import com.example.todo.todoapi.dto.response.TodoChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    OutboxEventRepository repository;
+    InMemoryOutboxBroker broker;
+
+    OutboxEvent e1 = event("01", "user1");
+    OutboxEvent e2 = event("02", "user2");
+    OutboxEvent e3 = event("03", "user1");
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OutboxEventRepository.class);
+        broker = new InMemoryOutboxBroker();
+    }
+
+    @Test
+    @DisplayName("전달에 실패하면 그 뒤의 기록은 보내지 않고, 다음 주기에 실패한 기록부터 순서대로 보내야 한다.")
+    void retryInOrderTest() {
+        //given
+        OutboxRelay relay = relay(100);
+        broker.failOnce(e2.getEventId());
+        when(repository.findPending(any(), any(Pageable.class)))
+                .thenReturn(List.of(e1, e2, e3))   // 1번째 전달
+                .thenReturn(List.of(e2, e3))       // 지연 시간 계산
+                .thenReturn(List.of(e2, e3))       // 2번째 전달
+                .thenReturn(List.of());
+
+        //when
+        int first = relay.relay();
+        int second = relay.relay();
+
+        //then
+        assertEquals(1, first);
+        assertEquals(2, second);
+        verify(repository).markPublished(eq(List.of(e1.getEventId())), any());
+        verify(repository).markPublished(eq(List.of(e2.getEventId(), e3.getEventId())), any());
+        assertEquals(List.of(e1, e3), broker.received("user1"));
+        assertEquals(List.of(e2), broker.received("user2"));
+        assertEquals(1, relay.getFailureCount());
+        assertEquals(3, relay.getPublishedCount());
+    }
+
+    @Test
+    @DisplayName("밀린 기록은 batch 크기씩 나눠서 모두 전달해야 한다.")
+    void batchTest() {
+        //given
+        OutboxRelay relay = relay(2);
+        when(repository.findPending(any(), any(Pageable.class)))
+                .thenReturn(List.of(e1, e2))
+                .thenReturn(List.of(e3))
+                .thenReturn(List.of());
+
+        //when
+        int delivered = relay.relay();
+
+        //then
+        assertEquals(3, delivered);
+        verify(repository, times(2)).markPublished(any(), any());
+        assertEquals(0, relay.getLagMillis());
+    }
+
+    @Test
+    @DisplayName("만든 지 settle 시간이 지나지 않은 기록은 전달 대상으로 조회하지 않아야 한다.")
+    void settleWindowTest() {
+        //given
+        OutboxRelay relay = new OutboxRelay(repository, broker,
+                mock(PlatformTransactionManager.class), true, 100, 5000);
+        when(repository.findPending(any(), any(Pageable.class))).thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now();
+
+        //when
+        relay.relayBatch();
+
+        //then
+        ArgumentCaptor<LocalDateTime> settledBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).findPending(settledBefore.capture(), any(Pageable.class));
+        assertFalse(settledBefore.getValue().isBefore(before.minusSeconds(5)));
+        assertTrue(settledBefore.getValue().isBefore(before.minusSeconds(4)));
+    }
+
+    private OutboxRelay relay(int batchSize) {
+        return new OutboxRelay(repository, broker, mock(PlatformTransactionManager.class), true, batchSize, 0);
+    }
+
+    private static OutboxEvent event(String id, String userId) {
+        return OutboxEvent.builder()
+                .eventId(id)
+                .userId(userId)
+                .todoId("todo-" + id)
+                .type(TodoChangeType.CREATED)
+                .payload("{}")
+                .createDate(LocalDateTime.now())
+                .build();
+    }
+
+    // 테스트용 메모리 브로커 (회원별로 받은 순서대로 보관)
+    static class InMemoryOutboxBroker implements OutboxSink {
+        private final Map<String, List<OutboxEvent>> topics = new LinkedHashMap<>();
+        private final Set<String> failOnce = new HashSet<>();
+
+        void failOnce(String eventId) {
+            failOnce.add(eventId);
+        }
+
+        @Override
+        public void deliver(OutboxEvent event) {
+            if (failOnce.remove(event.getEventId())) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            topics.computeIfAbsent(event.getUserId(), k -> new ArrayList<>()).add(event);
+        }
+
+        List<OutboxEvent> received(String userId) {
+            return topics.getOrDefault(userId, Collections.emptyList());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.todo.todoapi.service;
+
+import com.example.todo.todoapi.dto.response.TodoChangeType;
+import com.example.todo.todoapi.dto.response.TodoDeltaResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoChangeBusTest {
+
+    // 전송 작업을 모아 두었다가 직접 실행
+    Queue<Runnable> tasks = new ArrayDeque<>();
+
+    TodoChangeBus bus = new TodoChangeBus(tasks::add, 2, 2);
+
+    @Test
+    @DisplayName("같은 회원의 구독자에게만 변경분이 전달되어야 한다.")
+    void publishTest() {
+        //given
+        RecordingSink mine = new RecordingSink();
+        RecordingSink other = new RecordingSink();
+        bus.subscribe("user1", mine);
+        bus.subscribe("user2", other);
+
+        //when
+        bus.publish("user1", change(1));
+        runTasks();
+
+        //then
+        assertEquals(List.of(1L), mine.versions);
+        assertTrue(other.versions.isEmpty());
+        assertEquals(1, bus.getDeliveredCount());
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 가장 오래된 변경분부터 버려야 한다.")
+    void dropOldestTest() {
+        //given
+        RecordingSink sink = new RecordingSink();
+        bus.subscribe("user1", sink);
+
+        //when - 전송 전에 버퍼 크기(2)보다 많이 발행
+        bus.publish("user1", change(1));
+        bus.publish("user1", change(2));
+        bus.publish("user1", change(3));
+        runTasks();
+
+        //then
+        assertEquals(List.of(2L, 3L), sink.versions);
+        assertEquals(1, bus.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("회원별 최대 구독 수를 넘으면 예외가 발생해야 한다.")
+    void maxPerUserTest() {
+        //given
+        TodoChangeBus.Subscription first = bus.subscribe("user1", new RecordingSink());
+        bus.subscribe("user1", new RecordingSink());
+
+        //then
+        assertThrows(IllegalStateException.class, () -> bus.subscribe("user1", new RecordingSink()));
+
+        //when - 하나를 닫으면 다시 구독할 수 있음
+        first.close();
+        assertDoesNotThrow(() -> bus.subscribe("user1", new RecordingSink()));
+        assertEquals(2, bus.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("heartbeat 전송에 실패한 구독은 정리되어야 한다.")
+    void heartbeatClosesBrokenSubscriptionTest() {
+        //given
+        RecordingSink sink = new RecordingSink();
+        sink.broken = true;
+        TodoChangeBus.Subscription subscription = bus.subscribe("user1", sink);
+
+        //when
+        bus.heartbeat();
+        runTasks();
+
+        //then
+        assertTrue(subscription.isClosed());
+        assertEquals(0, bus.getSubscriberCount());
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) task.run();
+    }
+
+    private TodoDeltaResponseDTO change(long version) {
+        return TodoDeltaResponseDTO.builder()
+                .type(TodoChangeType.UPDATED)
+                .version(version)
+                .build();
+    }
+
+    static class RecordingSink implements TodoChangeBus.Sink {
+        final List<Long> versions = new ArrayList<>();
+        int heartbeats;
+        boolean broken;
+
+        @Override
+        public void send(TodoDeltaResponseDTO change) throws IOException {
+            if (broken) throw new IOException("broken pipe");
+            versions.add(change.getVersion());
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            if (broken) throw new IOException("broken pipe");
+            heartbeats++;
+        }
+    }
+}
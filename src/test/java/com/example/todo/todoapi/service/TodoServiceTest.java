@@ -0,0 +1,221 @@
+package com.example.todo.todoapi.service;
+
+import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.todoapi.dto.request.TodoCreateRequestDTO;
+import com.example.todo.todoapi.dto.request.TodoModifyRequestDTO;
+import com.example.todo.todoapi.dto.response.TodoDeltaResponseDTO;
+import com.example.todo.userapi.entity.Role;
+import com.example.todo.userapi.entity.User;
+import com.example.todo.userapi.repository.UserRepository;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag("db")
+@Transactional
+class TodoServiceTest {
+
+    @Autowired
+    TodoService todoService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    SqlStatementRecorder recorder;
+
+    TokenUserInfo userInfo;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("todo-sql@abc.com")
+                .password("1234")
+                .userName("춘식이")
+                .build());
+        userInfo = TokenUserInfo.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .role(Role.COMMON)
+                .build();
+        em.flush();
+        em.clear();
+        recorder.clear();
+    }
+
+    @Test
+    @DisplayName("프리미엄 회원의 할 일 등록은 회원 행 잠금 1번, INSERT 1번, 변경 기록 INSERT 1번과 목록 버전 UPDATE 1번만 실행해야 한다.")
+    void createStatementCountTest() {
+        //given
+        TokenUserInfo premium = TokenUserInfo.builder()
+                .userId(userInfo.getUserId())
+                .email(userInfo.getEmail())
+                .role(Role.PREMIUM)
+                .build();
+
+        //when
+        TodoDeltaResponseDTO delta = todoService.createDelta(
+                TodoCreateRequestDTO.builder().title("장보기").build(), premium);
+        em.flush();
+
+        //then
+        assertNotNull(delta.getTodo().getId());
+        assertEquals(2, recorder.countTouching("tbl_user"));
+        assertEquals(1, recorder.countTouching("for update"));
+        assertEquals(1, recorder.countTouching("tbl_todo_outbox"));
+        assertEquals(4, recorder.statements().size());
+    }
+
+    @Test
+    @DisplayName("일반회원의 할 일 등록은 회원 행 잠금 1번, 개수 조회 1번, INSERT 1번, 변경 기록 INSERT 1번과 목록 버전 UPDATE 1번만 실행해야 한다.")
+    void createWithLimitStatementCountTest() {
+        //when
+        todoService.createDelta(TodoCreateRequestDTO.builder().title("장보기").build(), userInfo);
+        em.flush();
+
+        //then - tbl_user 는 잠금(SELECT ... FOR UPDATE)과 목록 버전 UPDATE 만 (잠금은 개수 검사와 공유)
+        assertEquals(2, recorder.countTouching("tbl_user"));
+        assertEquals(1, recorder.countTouching("for update"));
+        assertEquals(1, recorder.countTouching("tbl_todo_outbox"));
+        assertEquals(5, recorder.statements().size());
+    }
+
+    @Test
+    @DisplayName("할 일 수정은 회원 행 잠금 1번, SELECT 1번, UPDATE 1번, 변경 기록 INSERT 1번과 목록 버전 UPDATE 1번만 실행해야 한다.")
+    void updateStatementCountTest() {
+        //given
+        String todoId = createTodo();
+
+        //when
+        todoService.updateDelta(
+                TodoModifyRequestDTO.builder().id(todoId).done(true).build(), userInfo.getUserId());
+        em.flush();
+
+        //then
+        assertEquals(2, recorder.countTouching("tbl_user"));
+        assertEquals(1, recorder.countTouching("tbl_todo_outbox"));
+        assertEquals(5, recorder.statements().size());
+    }
+
+    @Test
+    @DisplayName("할 일 삭제는 회원 행 잠금 1번, DELETE 1번, 변경 기록 INSERT 1번과 목록 버전 UPDATE 1번만 실행해야 한다.")
+    void deleteStatementCountTest() {
+        //given
+        String todoId = createTodo();
+
+        //when
+        todoService.deleteDelta(todoId, userInfo.getUserId());
+        em.flush();
+
+        //then
+        assertEquals(2, recorder.countTouching("tbl_user"));
+        assertEquals(1, recorder.countTouching("tbl_todo_outbox"));
+        assertEquals(4, recorder.statements().size());
+    }
+
+    @Test
+    @DisplayName("목록 버전은 DB 에 저장되어 목록이 바뀔 때만 1씩 올라가야 한다.")
+    void listVersionTest() {
+        //given
+        long before = todoService.listVersion(userInfo.getUserId());
+        String todoId = createTodo();
+
+        //when - 없는 할 일 수정은 목록을 바꾸지 않음
+        todoService.updateDelta(
+                TodoModifyRequestDTO.builder().id("없는할일").done(true).build(), userInfo.getUserId());
+        todoService.updateDelta(
+                TodoModifyRequestDTO.builder().id(todoId).done(true).build(), userInfo.getUserId());
+        em.flush();
+
+        //then
+        assertEquals(before + 2, todoService.listVersion(userInfo.getUserId()));
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 목록이 바뀌면 캐시된 목록 대신 DB에서 다시 조회해야 한다.")
+    void cacheInvalidatedByOtherServerTest() {
+        //given - 목록을 캐시에 올려두고, 캐시 적중은 목록 버전 조회 1번만 실행
+        createTodo();
+        todoService.retrieve(userInfo.getUserId());
+        recorder.clear();
+        todoService.retrieve(userInfo.getUserId());
+        assertEquals(1, recorder.statements().size());
+        recorder.clear();
+
+        //when - 다른 서버의 쓰기 (이 서버의 캐시는 비우지 않고 DB 의 목록 버전만 올라감)
+        em.createNativeQuery("UPDATE tbl_user SET todo_version = todo_version + 1 WHERE user_id = ?")
+                .setParameter(1, userInfo.getUserId())
+                .executeUpdate();
+        recorder.clear();
+        todoService.retrieve(userInfo.getUserId());
+
+        //then - 목록 버전 조회 + 목록 조회
+        assertEquals(2, recorder.statements().size());
+        assertEquals(1, recorder.countTouching("tbl_todo "));
+    }
+
+    private String createTodo() {
+        String todoId = todoService.createDelta(
+                TodoCreateRequestDTO.builder().title("장보기").build(), userInfo)
+                .getTodo().getId();
+        em.flush();
+        em.clear();
+        recorder.clear();
+        return todoId;
+    }
+
+    @TestConfiguration
+    static class SqlRecorderConfig {
+        // p6spy가 JdbcEventListener 빈을 자동으로 등록한다.
+        @Bean
+        SqlStatementRecorder sqlStatementRecorder() {
+            return new SqlStatementRecorder();
+        }
+    }
+
+    // 실행된 SQL을 기록하는 p6spy 리스너
+    static class SqlStatementRecorder extends SimpleJdbcEventListener {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation,
+                                      long timeElapsedNanos, SQLException e) {
+            statements.add(statementInformation.getSql());
+        }
+
+        List<String> statements() {
+            return statements;
+        }
+
+        long countTouching(String table) {
+            return statements.stream()
+                    .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(table))
+                    .count();
+        }
+
+        void clear() {
+            statements.clear();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.todo.userapi.repository;
 
 import com.example.todo.userapi.entity.User;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -13,6 +14,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
+@Tag("db")
 @Transactional
 @Rollback(false)
 class UserRepositoryTest {
@@ -0,0 +1,29 @@
+package com.example.todo.userapi.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 이메일은 항상 있다고 답하고, 오탐률은 목표치 근처여야 한다.")
+    void bitsTest() {
+        //given
+        EmailBloomFilter.Bits bits = new EmailBloomFilter.Bits(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bits.put("user" + i + "@abc.com");
+        }
+
+        //then - 거짓 음성은 없어야 함
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(bits.mightContain("user" + i + "@abc.com"));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (bits.mightContain("other" + i + "@abc.com")) falsePositives++;
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+}
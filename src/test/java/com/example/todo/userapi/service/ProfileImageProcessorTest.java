@@ -0,0 +1,96 @@
+package com.example.todo.userapi.service;
+
+import com.example.todo.userapi.service.ProfileImageProcessor.ImageVariant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfileImageProcessorTest {
+
+    ProfileImageProcessor processor = new ProfileImageProcessor();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("JPEG는 같은 포맷으로 원본, 256px, 64px 변형을 만들어야 한다.")
+    void jpegVariantTest() throws IOException {
+        //given
+        Path source = write("photo.jpg", "jpg", new BufferedImage(1200, 900, BufferedImage.TYPE_INT_RGB));
+
+        //when
+        List<ImageVariant> variants = processor.process(source, tempDir.resolve("original"));
+
+        //then
+        assertEquals(3, variants.size());
+        assertVariant(variants.get(0), "original", 1200, 900);
+        assertVariant(variants.get(1), "256", 256, 192);
+        assertVariant(variants.get(2), "64", 64, 48);
+        variants.forEach(v -> assertEquals("image/jpeg", v.getContentType()));
+    }
+
+    @Test
+    @DisplayName("원본은 파일로 인코딩하고 썸네일만 메모리에 두어야 한다.")
+    void originalToFileTest() throws IOException {
+        //given
+        Path source = write("photo.png", "png", new BufferedImage(1200, 900, BufferedImage.TYPE_INT_ARGB));
+        Path originalTarget = tempDir.resolve("original");
+
+        //when
+        List<ImageVariant> variants = processor.process(source, originalTarget);
+
+        //then
+        ImageVariant original = variants.get(0);
+        assertNull(original.getData());
+        assertEquals(originalTarget, original.getFile());
+        assertEquals(Files.size(originalTarget), original.getLength());
+        assertNull(variants.get(1).getFile());
+        assertEquals(variants.get(1).getData().length, variants.get(1).getLength());
+    }
+
+    @Test
+    @DisplayName("썸네일보다 작은 이미지는 확대하지 않아야 한다.")
+    void noUpscaleTest() throws IOException {
+        //given
+        Path source = write("small.png", "png", new BufferedImage(40, 20, BufferedImage.TYPE_INT_ARGB));
+
+        //when
+        List<ImageVariant> variants = processor.process(source, tempDir.resolve("original"));
+
+        //then
+        assertVariant(variants.get(1), "256", 40, 20);
+        assertVariant(variants.get(2), "64", 40, 20);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 예외가 발생해야 한다.")
+    void notImageTest() throws IOException {
+        Path source = Files.write(tempDir.resolve("text.png"), "hello".getBytes());
+        assertThrows(IllegalArgumentException.class, () -> processor.process(source, tempDir.resolve("original")));
+    }
+
+    private Path write(String name, String format, BufferedImage image) throws IOException {
+        Path path = tempDir.resolve(name);
+        ImageIO.write(image, format, path.toFile());
+        return path;
+    }
+
+    private void assertVariant(ImageVariant variant, String name, int width, int height) throws IOException {
+        assertEquals(name, variant.getName());
+        try (InputStream in = variant.openStream()) {
+            BufferedImage decoded = ImageIO.read(in);
+            assertEquals(width, decoded.getWidth());
+            assertEquals(height, decoded.getHeight());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.todo.userapi.service;
+
+import com.example.todo.aws.S3Service;
+import com.example.todo.userapi.entity.ProfileStatus;
+import com.example.todo.userapi.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProfileImageUploaderTest {
+
+    FakeS3Service s3Service;
+    UserRepository userRepository;
+    ProfileImageUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        s3Service = new FakeS3Service();
+        userRepository = mock(UserRepository.class);
+        // 작업을 호출한 스레드에서 바로 실행
+        uploader = new ProfileImageUploader(
+                s3Service, userRepository, new ProfileImageProcessor(), Runnable::run);
+    }
+
+    @Test
+    @DisplayName("원본과 썸네일, manifest를 업로드하고 프로필 경로를 manifest로 바꿔야 한다.")
+    void uploadTest() throws IOException {
+        //given
+        MockMultipartFile file = new MockMultipartFile(
+                "profileImage", "cat.png", "image/png", png(800, 600));
+        ProfileImageUploader.StagedImage image = uploader.stage(file);
+        String prefix = "profiles/" + image.getUploadId() + "/";
+
+        //when
+        uploader.uploadAsync("user-1", image);
+
+        //then
+        assertEquals(List.of(prefix + "original", prefix + "256", prefix + "64", prefix + "manifest.json"),
+                List.copyOf(s3Service.uploads.keySet()));
+        assertEquals("image/png", s3Service.contentTypes.get(prefix + "64"));
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(s3Service.uploads.get(prefix + "64")));
+        assertEquals(64, thumbnail.getWidth());
+        assertEquals(48, thumbnail.getHeight());
+
+        String manifestUrl = "fake://" + prefix + "manifest.json";
+        verify(userRepository).updateProfile("user-1", manifestUrl, ProfileStatus.READY);
+        assertEquals("fake://" + prefix + "256", ProfileImageUploader.variantUrl(manifestUrl, "256"));
+        assertFalse(Files.exists(image.getPath()));
+        assertFalse(Files.exists(image.getOriginalPath()));
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 업로드하지 않고 프로필 상태를 FAILED로 바꿔야 한다.")
+    void notImageTest() throws IOException {
+        //given
+        MockMultipartFile file = new MockMultipartFile(
+                "profileImage", "cat.png", "image/png", "not-an-image".getBytes());
+        ProfileImageUploader.StagedImage image = uploader.stage(file);
+
+        //when
+        uploader.uploadAsync("user-1", image);
+
+        //then
+        assertTrue(s3Service.uploads.isEmpty());
+        verify(userRepository).updateProfile("user-1", null, ProfileStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("업로드에 실패하면 프로필 상태를 FAILED로 바꾸고 임시 파일을 지워야 한다.")
+    void uploadFailTest() throws IOException {
+        //given
+        s3Service.fail = true;
+        MockMultipartFile file = new MockMultipartFile(
+                "profileImage", "cat.png", "image/png", png(10, 10));
+        ProfileImageUploader.StagedImage image = uploader.stage(file);
+
+        //when
+        uploader.uploadAsync("user-1", image);
+
+        //then
+        verify(userRepository).updateProfile("user-1", null, ProfileStatus.FAILED);
+        assertFalse(Files.exists(image.getPath()));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 요청 스레드에서 업로드하지 않고 프로필 상태를 FAILED로 바꿔야 한다.")
+    void rejectedTest() throws IOException {
+        //given - 작업을 항상 거부하는 실행기
+        uploader = new ProfileImageUploader(s3Service, userRepository, new ProfileImageProcessor(),
+                r -> { throw new RejectedExecutionException("queue full"); });
+        MockMultipartFile file = new MockMultipartFile(
+                "profileImage", "cat.png", "image/png", png(10, 10));
+        ProfileImageUploader.StagedImage image = uploader.stage(file);
+
+        //when
+        boolean accepted = uploader.uploadAsync("user-1", image);
+
+        //then
+        assertFalse(accepted);
+        assertTrue(s3Service.uploads.isEmpty());
+        verify(userRepository).updateProfile("user-1", null, ProfileStatus.FAILED);
+        assertEquals(1, uploader.getRejectedCount());
+        assertFalse(Files.exists(image.getPath()));
+    }
+
+    static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    // 업로드된 내용을 메모리에 기록하는 가짜 S3
+    static class FakeS3Service extends S3Service {
+        final Map<String, byte[]> uploads = new LinkedHashMap<>();
+        final Map<String, String> contentTypes = new HashMap<>();
+        boolean fail;
+
+        @Override
+        public String uploadToS3Bucket(InputStream uploadFile, long contentLength,
+                                       String contentType, String fileName) {
+            if (fail) throw new IllegalStateException("S3 연결 실패");
+            try {
+                byte[] data = uploadFile.readAllBytes();
+                assertEquals(contentLength, data.length);
+                uploads.put(fileName, data);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            contentTypes.put(fileName, contentType);
+            return "fake://" + fileName;
+        }
+    }
+}
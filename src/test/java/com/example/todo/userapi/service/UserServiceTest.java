@@ -2,6 +2,7 @@ package com.example.todo.userapi.service;
 
 import com.example.todo.userapi.dto.request.UserRequestSignUpDTO;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -11,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
+@Tag("db")
 @Transactional
 @Rollback(false)
 